@@ -1,15 +1,21 @@
 package com.resumeanalyzer.config;
 
 import com.resumeanalyzer.service.CustomUserDetailsService;
+import com.resumeanalyzer.service.UserStateCache;
 import com.resumeanalyzer.util.JwtUtil;
+import com.resumeanalyzer.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -21,13 +27,19 @@ import java.util.stream.Collectors;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final UserStateCache userStateCache;
+    private final boolean stateless;
 
-    public JwtFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService, UserStateCache userStateCache,
+                     @Value("${security.jwt.stateless:true}") boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.userStateCache = userStateCache;
+        this.stateless = stateless;
     }
 
     @Override
@@ -51,41 +63,33 @@ public class JwtFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwtToken = null;
+        VerifiedToken token = null;
 
         // Check if Authorization header exists and has Bearer token
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwtToken = authHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwtToken);
+                // Signature and expiry are checked once here; everything below reads the verified claims
+                token = jwtUtil.verify(authHeader.substring(7));
             } catch (Exception e) {
-                System.out.println("Invalid JWT token: " + e.getMessage());
+                logger.debug("Invalid JWT token: {}", e.getMessage());
                 // Continue filter chain without setting authentication for invalid tokens
                 filterChain.doFilter(request, response);
                 return;
             }
         } else if (authHeader != null) {
             // Authorization header exists but doesn't start with "Bearer "
-            System.out.println("Invalid Authorization header format");
+            logger.debug("Invalid Authorization header format");
             filterChain.doFilter(request, response);
             return;
         }
 
         // If we have a username and no authentication is set yet
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (token != null && token.username() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                // Load user details
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                // Validate token
-                if (jwtUtil.validateToken(jwtToken, userDetails)) {
-                    List<String> roles = jwtUtil.extractAuthorities(jwtToken);
+                UserDetails userDetails = loadUser(token);
 
-                    // Debug log
-                    System.out.println("Extracted Roles from JWT: " + roles);
-
-                    List<GrantedAuthority> authorities = roles.stream()
+                if (userDetails != null && token.username().equals(userDetails.getUsername())) {
+                    List<GrantedAuthority> authorities = token.authorities().stream()
                             .map(SimpleGrantedAuthority::new)
                             .collect(Collectors.toList());
 
@@ -96,18 +100,31 @@ public class JwtFilter extends OncePerRequestFilter {
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                    // Debug
-                    System.out.println("Authentication set for user: " + username + " with authorities: " + authorities);
+                    logger.debug("Authentication set for user: {} with authorities: {}", token.username(), authorities);
                 }
             } catch (Exception e) {
-                System.out.println("Error validating token for user: " + username + ", " + e.getMessage());
+                logger.debug("Error validating token for user: {}, {}", token.username(), e.getMessage());
                 // Continue without setting authentication
             }
-        } else if (username == null && authHeader != null && authHeader.startsWith("Bearer ")) {
-            // Token exists but username couldn't be extracted
-            System.out.println("Token exists but username couldn't be extracted");
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * The principal for a verified token. In stateless mode it is built from the
+     * token's claims, checked only against the cached user state; otherwise the
+     * user is read from the database. Null when the token has been revoked.
+     */
+    private UserDetails loadUser(VerifiedToken token) {
+        if (!stateless) {
+            return userDetailsService.loadUserByUsername(token.username());
+        }
+        if (!userStateCache.accepts(token.username(), token.authorities(), token.issuedAt())) {
+            logger.debug("Revoked JWT token for user: {}", token.username());
+            return null;
+        }
+        return new User(token.username(), "",
+                token.authorities().stream().map(SimpleGrantedAuthority::new).toList());
+    }
 }
@@ -0,0 +1,157 @@
+package com.resumeanalyzer.config;
+
+import com.resumeanalyzer.util.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-user, per-endpoint rate limit on the expensive resume endpoints. Runs
+ * right after {@link JwtFilter}, so the bucket is keyed by the token's subject
+ * and the limit is picked by its role. A request costs one permit per file it
+ * carries, so a bulk upload pays for every resume in it. Every limited
+ * response carries the RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset
+ * headers; an exhausted bucket gets 429 with Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final boolean enabled;
+    private final Set<String> limitedPaths;
+    private final RateLimiter.Limit userLimit;
+    private final RateLimiter.Limit adminLimit;
+    private final long zipBytesPerFile;
+    private final RateLimiter limiter;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public RateLimitFilter(@Value("${security.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${security.rate-limit.paths:/api/resume/upload,/api/resume/parse,/api/resume/bulk}") String[] paths,
+                           @Value("${security.rate-limit.user.per-minute:30}") long userPerMinute,
+                           @Value("${security.rate-limit.user.burst:10}") long userBurst,
+                           @Value("${security.rate-limit.admin.per-minute:120}") long adminPerMinute,
+                           @Value("${security.rate-limit.admin.burst:30}") long adminBurst,
+                           @Value("${security.rate-limit.zip-bytes-per-file:262144}") long zipBytesPerFile,
+                           @Value("${security.rate-limit.idle-seconds:600}") long idleSeconds) {
+        this.enabled = enabled;
+        this.limitedPaths = Set.of(paths);
+        this.userLimit = RateLimiter.Limit.perMinute(userPerMinute, userBurst);
+        this.adminLimit = RateLimiter.Limit.perMinute(adminPerMinute, adminBurst);
+        this.zipBytesPerFile = Math.max(1, zipBytesPerFile);
+        this.limiter = new RateLimiter(TimeUnit.SECONDS.toNanos(idleSeconds), System.nanoTime());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return !enabled || !limitedPaths.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            // Unauthenticated requests are turned away by the security chain; nothing to charge them to
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getServletPath();
+        RateLimiter.Limit limit = limitFor(authentication);
+        RateLimiter.Decision decision = limiter.acquire(
+                authentication.getName() + ' ' + path, limit, filesIn(request, limit), System.nanoTime());
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(decision.resetNanos())));
+
+        if (!decision.allowed()) {
+            rejected.increment();
+            logger.debug("Rate limit exceeded for user: {} on {}", authentication.getName(), path);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", String.valueOf(toSeconds(decision.retryAfterNanos())));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded, please retry later\"}");
+            return;
+        }
+
+        allowed.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("paths", limitedPaths);
+        stats.put("userPerMinute", userLimit.permits());
+        stats.put("userBurst", userLimit.burst());
+        stats.put("adminPerMinute", adminLimit.permits());
+        stats.put("adminBurst", adminLimit.burst());
+        stats.put("buckets", limiter.size());
+        stats.put("allowed", allowed.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+
+    private RateLimiter.Limit limitFor(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if ("ROLE_ADMIN".equals(authority.getAuthority())) {
+                return adminLimit;
+            }
+        }
+        return userLimit;
+    }
+
+    /**
+     * Files the request carries: the file parts of a multipart body, or for a
+     * streamed ZIP an estimate from its length. A ZIP of unknown length is
+     * charged a full burst.
+     */
+    private long filesIn(HttpServletRequest request, RateLimiter.Limit limit) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return 1;
+        }
+        if (contentType.startsWith("multipart/")) {
+            try {
+                return Math.max(1, request.getParts().stream()
+                        .filter(part -> part.getSubmittedFileName() != null)
+                        .count());
+            } catch (IOException | ServletException | IllegalStateException e) {
+                // Malformed or oversized bodies are rejected further on; charge them as one request
+                return 1;
+            }
+        }
+        if (contentType.startsWith("application/zip") || contentType.startsWith("application/x-zip-compressed")) {
+            long length = request.getContentLengthLong();
+            return length < 0 ? limit.burst() : Math.max(1, (length + zipBytesPerFile - 1) / zipBytesPerFile);
+        }
+        return 1;
+    }
+
+    // Whole seconds, rounded up so a client waiting that long is never early
+    private static long toSeconds(long nanos) {
+        return Math.max(0, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
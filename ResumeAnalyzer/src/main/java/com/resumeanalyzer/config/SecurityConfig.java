@@ -1,6 +1,7 @@
 package com.resumeanalyzer.config;
 
 import com.resumeanalyzer.service.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,10 +27,13 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService, JwtFilter jwtFilter) {
+    public SecurityConfig(CustomUserDetailsService customUserDetailsService, JwtFilter jwtFilter,
+                          RateLimitFilter rateLimitFilter) {
         this.customUserDetailsService = customUserDetailsService;
         this.jwtFilter = jwtFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -45,7 +49,12 @@ public class SecurityConfig {
             	    .requestMatchers("/api/resume/my").hasAuthority("ROLE_USER")
             	    .requestMatchers("/api/resume/all").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
             	    .requestMatchers("/api/resume/upload").hasAuthority("ROLE_USER")
+            	    .requestMatchers("/api/resume/bulk").hasAuthority("ROLE_USER")
+            	    .requestMatchers("/api/resume/jobs/**").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
             	    .requestMatchers("/api/resume/search").hasAuthority("ROLE_USER")
+            	    .requestMatchers("/api/resume/skills/**").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
+            	    .requestMatchers("/api/resume/rank").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
+            	    .requestMatchers("/api/resume/lookup").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
             	    .requestMatchers("/api/test/**").hasAuthority("ROLE_USER") // General protected test paths
             	    .requestMatchers("/api/user/**").hasAuthority("ROLE_USER")
             	    .requestMatchers("/", "/index.html", "/login", "/login.html", "/styles.css", "/script.js", "/webjars/**").permitAll()
@@ -64,6 +73,7 @@ public class SecurityConfig {
             );
 
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(rateLimitFilter, JwtFilter.class);
 
         return http.build();
     }
@@ -82,9 +92,10 @@ public class SecurityConfig {
         return source;
     }
 
+    // Raising the strength upgrades existing hashes as their users log in (see LoginService)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -1,6 +1,11 @@
 package com.resumeanalyzer.config;
 
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,4 +19,15 @@ public class WebConfig implements WebMvcConfigurer {
             .allowedHeaders("*")
             .allowCredentials(true); // ✅ for sending tokens
     }
+
+    // Keeps uploads up to the threshold in memory instead of spooling them to a temp file
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties multipartProperties,
+                                                         @Value("${resume.upload.in-memory-threshold:10MB}") DataSize inMemoryThreshold) {
+        MultipartConfigElement config = multipartProperties.createMultipartConfig();
+        int threshold = (int) Math.min(Integer.MAX_VALUE,
+            Math.max(config.getFileSizeThreshold(), inMemoryThreshold.toBytes()));
+        return new MultipartConfigElement(config.getLocation(), config.getMaxFileSize(),
+            config.getMaxRequestSize(), threshold);
+    }
 }
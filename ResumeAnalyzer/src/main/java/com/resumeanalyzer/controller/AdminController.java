@@ -1,18 +1,44 @@
 package com.resumeanalyzer.controller;
 
+import com.resumeanalyzer.config.RateLimitFilter;
+import com.resumeanalyzer.dto.CursorPage;
+import com.resumeanalyzer.dto.ResumeSummary;
+import com.resumeanalyzer.dto.ResumeView;
 import com.resumeanalyzer.entity.User;
-import com.resumeanalyzer.model.Resume;
 import com.resumeanalyzer.repository.UserRepository;
+import com.resumeanalyzer.service.CandidateRankingIndex;
+import com.resumeanalyzer.service.DuplicateDetectionIndex;
+import com.resumeanalyzer.service.GuardedResumeParserService;
+import com.resumeanalyzer.service.LoginService;
+import com.resumeanalyzer.service.ResumeExportService;
+import com.resumeanalyzer.service.ResumeIndexBootstrap;
+import com.resumeanalyzer.service.ResumeIngestionService;
+import com.resumeanalyzer.service.ResumeNameIndex;
+import com.resumeanalyzer.service.ResumeParseCache;
+import com.resumeanalyzer.service.ResumeSearchIndex;
 import com.resumeanalyzer.service.ResumeService;
+import com.resumeanalyzer.service.SkillBitmapIndex;
+import com.resumeanalyzer.service.SkillDictionaryService;
 import com.resumeanalyzer.service.UserService;
+import com.resumeanalyzer.service.UserStateCache;
+import com.resumeanalyzer.util.JwtUtil;
+import com.resumeanalyzer.util.SkillMatcher;
 
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -21,27 +47,92 @@ public class AdminController {
     private final ResumeService resumeService;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final SkillDictionaryService skillDictionaryService;
+    private final ResumeParseCache parseCache;
+    private final ResumeIngestionService ingestionService;
+    private final GuardedResumeParserService guardedParser;
+    private final ResumeExportService exportService;
+    private final ResumeSearchIndex searchIndex;
+    private final ResumeIndexBootstrap indexBootstrap;
+    private final SkillBitmapIndex skillBitmapIndex;
+    private final CandidateRankingIndex rankingIndex;
+    private final DuplicateDetectionIndex duplicateIndex;
+    private final ResumeNameIndex nameIndex;
+    private final UserStateCache userStateCache;
+    private final JwtUtil jwtUtil;
+    private final LoginService loginService;
+    private final RateLimitFilter rateLimitFilter;
 
-    public AdminController(ResumeService resumeService, UserRepository userRepository, UserService userService) {
+    public AdminController(ResumeService resumeService, UserRepository userRepository, UserService userService,
+                           SkillDictionaryService skillDictionaryService, ResumeParseCache parseCache,
+                           ResumeIngestionService ingestionService, GuardedResumeParserService guardedParser,
+                           ResumeExportService exportService, ResumeSearchIndex searchIndex,
+                           ResumeIndexBootstrap indexBootstrap, SkillBitmapIndex skillBitmapIndex,
+                           CandidateRankingIndex rankingIndex, DuplicateDetectionIndex duplicateIndex,
+                           ResumeNameIndex nameIndex, UserStateCache userStateCache, JwtUtil jwtUtil,
+                           LoginService loginService, RateLimitFilter rateLimitFilter) {
         this.resumeService = resumeService;
         this.userRepository = userRepository;
         this.userService = userService;
+        this.skillDictionaryService = skillDictionaryService;
+        this.parseCache = parseCache;
+        this.ingestionService = ingestionService;
+        this.guardedParser = guardedParser;
+        this.exportService = exportService;
+        this.searchIndex = searchIndex;
+        this.indexBootstrap = indexBootstrap;
+        this.skillBitmapIndex = skillBitmapIndex;
+        this.rankingIndex = rankingIndex;
+        this.duplicateIndex = duplicateIndex;
+        this.nameIndex = nameIndex;
+        this.userStateCache = userStateCache;
+        this.jwtUtil = jwtUtil;
+        this.loginService = loginService;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @GetMapping("/resumes")
-    public ResponseEntity<?> getAllResumes(Authentication authentication) {
+    public ResponseEntity<?> getAllResumes(@RequestParam(value = "cursor", required = false) String cursor,
+                                           @RequestParam(value = "size", required = false) Integer size,
+                                           @RequestParam(value = "view", defaultValue = "summary") String view,
+                                           Authentication authentication) {
         try {
-            List<Resume> resumes = resumeService.getAllResumes();
-            if (resumes.isEmpty()) {
+            CursorPage<?> resumes = ResumeView.parse(view) == ResumeView.FULL
+                ? resumeService.getAllResumes(cursor, size)
+                : resumeService.getAllResumeSummaries(cursor, size);
+            if (resumes.getItems().isEmpty() && cursor == null) {
                 return ResponseEntity.status(HttpStatus.NO_CONTENT).body("No resumes found");
             }
             return ResponseEntity.ok(resumes);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("Failed to fetch resumes: " + e.getMessage());
         }
     }
 
+    // Streams the whole table (or a filtered slice) straight to the response, written as rows are read
+    @GetMapping("/resumes/export")
+    public void exportResumes(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                              @RequestParam(value = "username", required = false) String username,
+                              @RequestParam(value = "fromId", required = false) Long fromId,
+                              @RequestParam(value = "toId", required = false) Long toId,
+                              HttpServletResponse response) throws IOException {
+        ResumeExportService.Format exportFormat;
+        try {
+            exportFormat = ResumeExportService.Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"resumes." + exportFormat.getExtension() + "\"");
+        exportService.export(exportFormat, username, fromId, toId, response.getOutputStream());
+    }
+
     @DeleteMapping("/resume/{id}")
     public ResponseEntity<?> deleteResume(@PathVariable Long id, Authentication authentication) {
         try {
@@ -82,6 +173,8 @@ public class AdminController {
                 User user = userOpt.get();
                 user.setRole(role);
                 userRepository.save(user);
+                // Tokens issued with the old role stop working on the next request
+                userStateCache.roleChanged(username, role);
                 return ResponseEntity.ok("User role updated to: " + role);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
@@ -107,5 +200,92 @@ public class AdminController {
                     .body("Error deleting user: " + e.getMessage());
         }
     }
-}
 
+    @PostMapping("/skills/reload")
+    public ResponseEntity<?> reloadSkills(Authentication authentication) {
+        try {
+            SkillMatcher matcher = skillDictionaryService.reload();
+            return ResponseEntity.ok(Map.of("version", matcher.getVersion(), "skills", matcher.size()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Failed to reload skill dictionary: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/parser/cache")
+    public ResponseEntity<?> getParseCacheStats(Authentication authentication) {
+        return ResponseEntity.ok(parseCache.getStats());
+    }
+
+    @GetMapping("/auth/cache")
+    public ResponseEntity<?> getUserStateCacheStats(Authentication authentication) {
+        return ResponseEntity.ok(Map.of("users", userStateCache.getStats(), "tokens", jwtUtil.getCacheStats()));
+    }
+
+    @GetMapping("/login")
+    public ResponseEntity<?> getLoginStats(Authentication authentication) {
+        return ResponseEntity.ok(loginService.getStats());
+    }
+
+    @GetMapping("/rate-limit")
+    public ResponseEntity<?> getRateLimitStats(Authentication authentication) {
+        return ResponseEntity.ok(rateLimitFilter.getStats());
+    }
+
+    @GetMapping("/ingestion")
+    public ResponseEntity<?> getIngestionStats(Authentication authentication) {
+        return ResponseEntity.ok(ingestionService.getStats());
+    }
+
+    @GetMapping("/parser/watchdog")
+    public ResponseEntity<?> getParseWatchdogStats(Authentication authentication) {
+        return ResponseEntity.ok(guardedParser.getStats());
+    }
+
+    @DeleteMapping("/parser/quarantine")
+    public ResponseEntity<?> clearParseQuarantine(Authentication authentication) {
+        return ResponseEntity.ok(Map.of("cleared", guardedParser.clearQuarantine()));
+    }
+
+    @GetMapping("/index")
+    public ResponseEntity<?> getSearchIndexStats(Authentication authentication) {
+        return ResponseEntity.ok(Map.of("search", searchIndex.getStats(), "skills", skillBitmapIndex.getStats(),
+            "ranking", rankingIndex.getStats(), "duplicates", duplicateIndex.getStats(),
+            "names", nameIndex.getStats()));
+    }
+
+    // Near-duplicate clusters, largest first, with a summary of every member
+    @GetMapping("/duplicates")
+    public ResponseEntity<?> getDuplicateClusters(@RequestParam(value = "limit", defaultValue = "50") int limit,
+                                                  Authentication authentication) {
+        try {
+            List<List<Long>> clusters = duplicateIndex.clusters();
+            List<List<Long>> page = clusters.subList(0, Math.min(Math.max(limit, 0), clusters.size()));
+            Map<Long, ResumeSummary> summaries = resumeService
+                .getResumeSummaries(page.stream().flatMap(List::stream).toList())
+                .stream()
+                .collect(Collectors.toMap(ResumeSummary::id, Function.identity()));
+
+            List<Map<String, Object>> items = page.stream().map(cluster -> {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("size", cluster.size());
+                item.put("resumes", cluster.stream().map(summaries::get).filter(Objects::nonNull).toList());
+                return item;
+            }).toList();
+            return ResponseEntity.ok(Map.of("clusters", clusters.size(), "items", items));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Failed to list duplicates: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<?> rebuildIndexes(Authentication authentication) {
+        try {
+            return ResponseEntity.ok(Map.of("indexed", indexBootstrap.rebuild()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Failed to rebuild indexes: " + e.getMessage());
+        }
+    }
+}
@@ -2,42 +2,50 @@ package com.resumeanalyzer.controller;
 
 import com.resumeanalyzer.entity.User;
 import com.resumeanalyzer.repository.UserRepository;
+import com.resumeanalyzer.service.LoginService;
 import com.resumeanalyzer.service.UserService;
+import com.resumeanalyzer.service.UserStateCache;
 import com.resumeanalyzer.util.JwtUtil;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final UserStateCache userStateCache;
+    private final LoginService loginService;
 // ✅ Use your UserService
 
     @Autowired
     public AuthController(AuthenticationManager authenticationManager,
                           UserRepository userRepository,
                           JwtUtil jwtUtil,
-                          PasswordEncoder passwordEncoder,
-                          UserService userService) {
+                          UserService userService,
+                          UserStateCache userStateCache,
+                          LoginService loginService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
         this.userService = userService;
-        this.passwordEncoder = passwordEncoder; 
+        this.userStateCache = userStateCache;
+        this.loginService = loginService;
     }
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@RequestBody User user) {
@@ -52,8 +60,14 @@ public class AuthController {
             user.setRole("ROLE_USER");
         }
 
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        try {
+            user.setPassword(loginService.encodePassword(user.getPassword()));
+        } catch (RejectedExecutionException e) {
+            return tooManyLogins();
+        }
         userRepository.save(user);
+        // The name may be cached as deleted from an earlier account
+        userStateCache.invalidate(user.getUsername());
 
         return ResponseEntity.ok("User registered successfully");
     }
@@ -73,7 +87,15 @@ public class AuthController {
 
         User user = userOpt.get();
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        // BCrypt runs on the login pool; when it is saturated the client is told to back off
+        boolean matches;
+        try {
+            matches = loginService.verifyPassword(user, password);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Login pool saturated, rejecting login for user: {}", username);
+            return tooManyLogins();
+        }
+        if (!matches) {
             System.out.println("Invalid password for user: " + username);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid password");
         }
@@ -92,6 +114,12 @@ public class AuthController {
     }
 
 
+    private ResponseEntity<?> tooManyLogins() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", String.valueOf(loginService.retryAfterSeconds()))
+                .body("Too many logins in progress, please retry shortly");
+    }
+
     @GetMapping("/test")
     public ResponseEntity<String> secureTest() {
         return ResponseEntity.ok("✅ Secure endpoint works!");
@@ -1,12 +1,29 @@
 package com.resumeanalyzer.controller;
 
+import com.resumeanalyzer.dto.CursorPage;
 import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.dto.ResumeSummary;
+import com.resumeanalyzer.dto.ResumeView;
 import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.service.BulkIngestionResult;
+import com.resumeanalyzer.service.CandidateRankingService;
+import com.resumeanalyzer.service.IngestionJob;
+import com.resumeanalyzer.service.IngestionResult;
+import com.resumeanalyzer.service.ResumeBulkIngestionService;
+import com.resumeanalyzer.service.ResumeIngestionService;
+import com.resumeanalyzer.service.ResumeLookupService;
 import com.resumeanalyzer.service.ResumeParserService;
+import com.resumeanalyzer.service.ResumeSearchService;
 import com.resumeanalyzer.service.ResumeService;
+import com.resumeanalyzer.service.SkillBitmapIndex;
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.IdBitmap;
+import com.resumeanalyzer.util.SkillQuery;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -14,7 +31,10 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/resume")
@@ -23,44 +43,60 @@ public class ResumeController {
     
     private final ResumeService resumeService;
     private final ResumeParserService resumeParserService;
+    private final ResumeIngestionService resumeIngestionService;
+    private final ResumeBulkIngestionService resumeBulkIngestionService;
+    private final ResumeSearchService resumeSearchService;
+    private final SkillBitmapIndex skillBitmapIndex;
+    private final CandidateRankingService candidateRankingService;
+    private final ResumeLookupService resumeLookupService;
 
     public ResumeController(ResumeService resumeService, 
-                          ResumeParserService resumeParserService) {
+                          ResumeParserService resumeParserService,
+                          ResumeIngestionService resumeIngestionService,
+                          ResumeBulkIngestionService resumeBulkIngestionService,
+                          ResumeSearchService resumeSearchService,
+                          SkillBitmapIndex skillBitmapIndex,
+                          CandidateRankingService candidateRankingService,
+                          ResumeLookupService resumeLookupService) {
         this.resumeService = resumeService;
         this.resumeParserService = resumeParserService;
+        this.resumeIngestionService = resumeIngestionService;
+        this.resumeBulkIngestionService = resumeBulkIngestionService;
+        this.resumeSearchService = resumeSearchService;
+        this.skillBitmapIndex = skillBitmapIndex;
+        this.candidateRankingService = candidateRankingService;
+        this.resumeLookupService = resumeLookupService;
     }
 
     @PostMapping("/upload")
     public ResponseEntity<?> uploadResume(
             @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             Authentication authentication) {
         
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().body("File cannot be empty");
         }
 
+        if (async) {
+            return submitUpload(file, authentication.getName());
+        }
+
         try {
             String username = authentication.getName();
             logger.info("Processing resume upload for user: {}", username);
 
-            // 1. Upload to S3
-            String s3Key = resumeService.uploadFile(file, username);
-            logger.debug("File uploaded to S3 with key: {}", s3Key);
-
-            // 2. Parse resume
-            ResumeDTO parsedData = resumeParserService.parseResume(file);
-            logger.debug("Resume parsed successfully for: {}", parsedData.getName());
-
-            // 3. Save to database
-            Resume resume = createResumeEntity(parsedData, username);
-            Resume savedResume = resumeService.saveResume(resume);
-            logger.info("Resume saved with ID: {}", savedResume.getId());
+            // Upload to S3 and parse concurrently, then save to database
+            IngestionResult result = resumeIngestionService.ingest(DocumentContent.from(file), username);
+            logger.info("Resume saved with ID: {}", result.getResume().getId());
 
             return ResponseEntity.ok(
                 new UploadResponse(
-                    s3Key,
-                    savedResume.getId(),
-                    "Resume processed successfully"
+                    result.getS3Key(),
+                    result.getResume().getId(),
+                    "Resume processed successfully",
+                    result.getTimings(),
+                    result.getResume().getDuplicateOf()
                 )
             );
             
@@ -75,14 +111,85 @@ public class ResumeController {
         }
     }
 
+    // Hands the upload to the ingestion pool and returns before storage and parsing
+    private ResponseEntity<?> submitUpload(MultipartFile file, String username) {
+        try {
+            IngestionJob job = resumeIngestionService.submit(DocumentContent.from(file), username);
+            logger.info("Queued ingestion job {} for user: {}", job.getJobId(), username);
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("jobId", job.getJobId());
+            body.put("status", job.getStatus());
+            body.put("statusUrl", "/api/resume/jobs/" + job.getJobId());
+            return ResponseEntity.accepted().body(body);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Ingestion queue full, rejecting upload for user: {}", username);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                   .header("Retry-After", "5")
+                   .body("Upload queue is full, please retry shortly");
+        } catch (IOException e) {
+            logger.error("File upload failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                   .body("Upload failed: " + e.getMessage());
+        }
+    }
+
+    // Many resumes in one request: several files, ZIP archives, or both
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> bulkUpload(@RequestParam("files") List<MultipartFile> files,
+                                        Authentication authentication) {
+        try {
+            String username = authentication.getName();
+            logger.info("Processing bulk upload of {} parts for user: {}", files.size(), username);
+            BulkIngestionResult result = resumeBulkIngestionService.ingestFiles(files, username);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Bulk upload failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                   .body("Bulk upload failed: " + e.getMessage());
+        }
+    }
+
+    // A ZIP archive sent as the raw request body is unpacked while it is still arriving
+    @PostMapping(value = "/bulk", consumes = {"application/zip", "application/x-zip-compressed"})
+    public ResponseEntity<?> bulkUploadZip(HttpServletRequest request, Authentication authentication) {
+        try {
+            String username = authentication.getName();
+            logger.info("Processing bulk ZIP stream for user: {}", username);
+            BulkIngestionResult result = resumeBulkIngestionService.ingestZip(request.getInputStream(), username);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Bulk upload failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                   .body("Bulk upload failed: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getUploadJob(@PathVariable String jobId, Authentication authentication) {
+        boolean isAdmin = authentication.getAuthorities().stream()
+            .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+
+        return resumeIngestionService.getJob(jobId, authentication.getName(), isAdmin)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("Job not found"));
+    }
+
     @GetMapping("/my")
-    public ResponseEntity<?> getUserResumes(Authentication authentication) {
+    public ResponseEntity<?> getUserResumes(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "summary") String view,
+            Authentication authentication) {
         try {
             String username = authentication.getName();
             logger.debug("Fetching resumes for user: {}", username);
-            return ResponseEntity.ok(
-                resumeService.getResumesByUsername(username)
-            );
+            if (ResumeView.parse(view) == ResumeView.FULL) {
+                return ResponseEntity.ok(resumeService.getResumesByUsername(username, cursor, size));
+            }
+            return ResponseEntity.ok(resumeService.getResumeSummariesByUsername(username, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             logger.error("Failed to fetch user resumes", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -91,8 +198,14 @@ public class ResumeController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<?> getAllResumes(Authentication authentication) {
+    public ResponseEntity<?> getAllResumes(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "summary") String view,
+            Authentication authentication) {
         try {
+            ResumeView resumeView = ResumeView.parse(view);
+
             // Check if user has admin role
             boolean isAdmin = authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
@@ -103,7 +216,12 @@ public class ResumeController {
             }
             
             logger.debug("Fetching all resumes");
-            return ResponseEntity.ok(resumeService.getAllResumes());
+            if (resumeView == ResumeView.FULL) {
+                return ResponseEntity.ok(resumeService.getAllResumes(cursor, size));
+            }
+            return ResponseEntity.ok(resumeService.getAllResumeSummaries(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             logger.error("Failed to fetch all resumes", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -126,39 +244,100 @@ public class ResumeController {
     }
     
     @GetMapping("/search")
-    public ResponseEntity<?> searchResumes(@RequestParam("query") String query, Authentication authentication) {
+    public ResponseEntity<?> searchResumes(@RequestParam("query") String query,
+                                           @RequestParam(value = "view", defaultValue = "summary") String view,
+                                           @RequestParam(value = "size", required = false) Integer size,
+                                           Authentication authentication) {
         try {
-            String username = authentication.getName();
-            List<Resume> results = resumeService.searchResumes(query);
-            
-            // Filter results to only include resumes belonging to the user or all if admin
+            ResumeView resumeView = ResumeView.parse(view);
+            // Users search their own resumes only; the owner is applied in the index and in the query
             boolean isAdmin = authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
-            
-            if (!isAdmin) {
-                results = results.stream()
-                    .filter(resume -> resume.getUsername().equals(username))
-                    .toList();
+            List<Resume> results = resumeSearchService.search(query, isAdmin ? null : authentication.getName(),
+                resumeView, size);
+
+            if (resumeView == ResumeView.FULL) {
+                return ResponseEntity.ok(results);
             }
-            
-            return ResponseEntity.ok(results);
+            return ResponseEntity.ok(results.stream().map(ResumeSummary::from).toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                    .body("Search failed: " + e.getMessage());
         }
     }
 
-    private Resume createResumeEntity(ResumeDTO dto, String username) {
-        Resume resume = new Resume();
-        resume.setName(dto.getName());
-        resume.setEmail(dto.getEmail());
-        resume.setPhone(dto.getPhone());
-        resume.setSkills(dto.getSkills());
-        resume.setEducation(dto.getEducation());
-        resume.setProjects(dto.getProjects());
-        resume.setSummary(dto.getSummary());
-        resume.setUsername(username);
-        return resume;
+    // Boolean skill filter, e.g. "Java AND Kafka AND NOT PHP", evaluated on in-memory bitmaps
+    @GetMapping("/skills/query")
+    public ResponseEntity<?> querySkills(@RequestParam("q") String expression,
+                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "size", required = false) Integer size,
+                                         @RequestParam(value = "view", defaultValue = "summary") String view,
+                                         Authentication authentication) {
+        try {
+            ResumeView resumeView = ResumeView.parse(view);
+            SkillQuery query = SkillQuery.parse(expression);
+            boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+
+            long start = System.nanoTime();
+            IdBitmap matches = skillBitmapIndex.query(query, isAdmin ? null : authentication.getName());
+            long tookMicros = (System.nanoTime() - start) / 1000;
+
+            CursorPage<?> page = resumeService.getResumePage(matches, cursor, size, resumeView);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("count", matches.cardinality());
+            body.put("tookMicros", tookMicros);
+            body.put("items", page.getItems());
+            body.put("size", page.getSize());
+            body.put("next", page.getNext());
+            return ResponseEntity.ok(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Skill query failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                   .body("Skill query failed: " + e.getMessage());
+        }
+    }
+
+    // Typo-tolerant name or email lookup, e.g. "Jonh Smtih"; users see their own resumes, admins see all
+    @GetMapping("/lookup")
+    public ResponseEntity<?> lookupResumes(@RequestParam("q") String query,
+                                           @RequestParam(value = "size", required = false) Integer size,
+                                           Authentication authentication) {
+        try {
+            boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+            return ResponseEntity.ok(
+                resumeLookupService.lookup(query, isAdmin ? null : authentication.getName(), size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Resume lookup failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                   .body("Lookup failed: " + e.getMessage());
+        }
+    }
+
+    // Top candidates for a pasted job description; users rank their own resumes, admins rank all
+    @PostMapping(value = "/rank", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<?> rankCandidates(@RequestBody String jobDescription,
+                                            @RequestParam(value = "top", required = false) Integer top,
+                                            Authentication authentication) {
+        try {
+            boolean isAdmin = authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+            return ResponseEntity.ok(
+                candidateRankingService.rank(jobDescription, isAdmin ? null : authentication.getName(), top));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Candidate ranking failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                   .body("Ranking failed: " + e.getMessage());
+        }
     }
 
     // Response DTO
@@ -166,17 +345,24 @@ public class ResumeController {
         private final String s3Key;
         private final Long resumeId;
         private final String message;
+        private final Map<String, Long> timings;
+        private final Long duplicateOf;
 
-        public UploadResponse(String s3Key, Long resumeId, String message) {
+        public UploadResponse(String s3Key, Long resumeId, String message, Map<String, Long> timings,
+                              Long duplicateOf) {
             this.s3Key = s3Key;
             this.resumeId = resumeId;
             this.message = message;
+            this.timings = timings;
+            this.duplicateOf = duplicateOf;
         }
 
         // Getters
         public String getS3Key() { return s3Key; }
         public Long getResumeId() { return resumeId; }
         public String getMessage() { return message; }
+        public Map<String, Long> getTimings() { return timings; }
+        public Long getDuplicateOf() { return duplicateOf; }
     }
 }
 
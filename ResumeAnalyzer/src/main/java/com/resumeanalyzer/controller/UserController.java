@@ -4,8 +4,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.resumeanalyzer.dto.ResumeView;
 import com.resumeanalyzer.service.ResumeService;
 @RestController
 @RequestMapping("/api/user")
@@ -18,10 +20,18 @@ public class UserController {
     }
 
     @GetMapping("/my-resumes")
-    public ResponseEntity<?> getMyResumes(Authentication authentication) {
+    public ResponseEntity<?> getMyResumes(@RequestParam(value = "cursor", required = false) String cursor,
+                                          @RequestParam(value = "size", required = false) Integer size,
+                                          @RequestParam(value = "view", defaultValue = "summary") String view,
+                                          Authentication authentication) {
         try {
             String username = authentication.getName();
-            return ResponseEntity.ok(resumeService.getResumesByUsername(username));
+            if (ResumeView.parse(view) == ResumeView.FULL) {
+                return ResponseEntity.ok(resumeService.getResumesByUsername(username, cursor, size));
+            }
+            return ResponseEntity.ok(resumeService.getResumeSummariesByUsername(username, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Failed to fetch resumes: " + e.getMessage());
         }
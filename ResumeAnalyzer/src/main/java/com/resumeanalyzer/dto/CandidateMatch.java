@@ -0,0 +1,7 @@
+package com.resumeanalyzer.dto;
+
+import java.util.List;
+
+// One ranked candidate for a job description
+public record CandidateMatch(Long id, String name, String email, double score, double skillScore,
+                             double textScore, List<String> matchedSkills) {}
@@ -0,0 +1,18 @@
+package com.resumeanalyzer.dto;
+
+import java.util.List;
+
+// One page of a keyset-paginated list; next is null on the last page
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String next;
+
+    public CursorPage(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNext() { return next; }
+    public int getSize() { return items.size(); }
+}
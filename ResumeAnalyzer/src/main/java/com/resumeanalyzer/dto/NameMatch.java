@@ -0,0 +1,4 @@
+package com.resumeanalyzer.dto;
+
+// One fuzzy name or email match, with the stored value it was closest to
+public record NameMatch(Long id, String name, String email, String matched, int distance, double overlap) {}
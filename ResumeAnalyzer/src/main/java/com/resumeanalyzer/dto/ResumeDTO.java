@@ -1,5 +1,7 @@
 package com.resumeanalyzer.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
 public class ResumeDTO {
@@ -11,6 +13,9 @@ public class ResumeDTO {
     private List<String> projects;
     private String summary;
     private String experience;
+    // MinHash of the extracted text, for near-duplicate detection; not part of API responses
+    @JsonIgnore
+    private byte[] textSignature;
 
     // Getters and Setters
     public String getName() { return name; }
@@ -36,4 +41,7 @@ public class ResumeDTO {
     
     public String getExperience() { return experience; }
     public void setExperience(String experience) { this.experience = experience; }
-}
\ No newline at end of file
+
+    public byte[] getTextSignature() { return textSignature; }
+    public void setTextSignature(byte[] textSignature) { this.textSignature = textSignature; }
+}
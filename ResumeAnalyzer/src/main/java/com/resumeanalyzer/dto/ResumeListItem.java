@@ -0,0 +1,8 @@
+package com.resumeanalyzer.dto;
+
+// Closed projection: list queries select only these columns
+public interface ResumeListItem {
+    Long getId();
+    String getName();
+    String getEmail();
+}
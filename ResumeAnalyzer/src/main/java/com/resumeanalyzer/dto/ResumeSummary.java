@@ -0,0 +1,13 @@
+package com.resumeanalyzer.dto;
+
+import com.resumeanalyzer.model.Resume;
+
+import java.util.List;
+
+// What the resume lists show; the full entity is only loaded for view=full
+public record ResumeSummary(Long id, String name, String email, List<String> skills) {
+
+    public static ResumeSummary from(Resume resume) {
+        return new ResumeSummary(resume.getId(), resume.getName(), resume.getEmail(), resume.getSkills());
+    }
+}
@@ -0,0 +1,15 @@
+package com.resumeanalyzer.dto;
+
+// How much of each resume a list response carries
+public enum ResumeView {
+    SUMMARY, FULL;
+
+    public static ResumeView parse(String value) {
+        for (ResumeView view : values()) {
+            if (view.name().equalsIgnoreCase(value)) {
+                return view;
+            }
+        }
+        throw new IllegalArgumentException("Unknown view: " + value + " (expected summary or full)");
+    }
+}
@@ -1,9 +1,11 @@
 package com.resumeanalyzer.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_resume_username_id", columnList = "username, id"))
 public class Resume {
 
     @Id
@@ -35,6 +37,15 @@ public void setUsername(String username) {
     @Column(length = 2000)
     private String summary;
 
+    // MinHash of the extracted text; only used to find near-duplicates
+    @JsonIgnore
+    @Column(length = 512)
+    private byte[] textSignature;
+
+    // Earliest known resume of the same user this one nearly duplicates, set when it is saved
+    @JsonIgnore
+    private Long duplicateOf;
+
     // Getters and Setters 👇
 
     public Long getId() {
@@ -100,4 +111,20 @@ public void setUsername(String username) {
     public void setSummary(String summary) {
         this.summary = summary;
     }
+
+    public byte[] getTextSignature() {
+        return textSignature;
+    }
+
+    public void setTextSignature(byte[] textSignature) {
+        this.textSignature = textSignature;
+    }
+
+    public Long getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    public void setDuplicateOf(Long duplicateOf) {
+        this.duplicateOf = duplicateOf;
+    }
 }
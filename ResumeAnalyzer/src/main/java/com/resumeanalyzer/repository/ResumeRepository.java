@@ -1,11 +1,67 @@
 package com.resumeanalyzer.repository;
 
 import com.resumeanalyzer.model.Resume;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUsername(String username);
-    List<Resume> findByNameContainingIgnoreCaseOrSkillsContainingIgnoreCase(String name, String skill);
 
-}
\ No newline at end of file
+    // Keyset pages: seek past the last id seen, so every page costs the same as the first.
+    // The type is Resume for full rows or a projection such as ResumeListItem for lists.
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit, Class<T> type);
+    <T> List<T> findByUsernameAndIdGreaterThanOrderByIdAsc(String username, Long id, Limit limit, Class<T> type);
+
+    // Rows for ids that came out of an in-memory index
+    <T> List<T> findByIdInOrderByIdAsc(Collection<Long> ids, Class<T> type);
+
+    // Search hits of one user; the username stays in the WHERE clause even though the index already filtered
+    List<Resume> findByUsernameAndIdIn(String username, Collection<Long> ids);
+
+    // (resume id, skill) pairs, for building summaries without loading the entities
+    @Query("select r.id, s from Resume r join r.skills s where r.id in :ids")
+    List<Object[]> findSkillsByIds(@Param("ids") Collection<Long> ids);
+
+    // Export reads: optional username filter, id range (afterId, toId], streamed with a large fetch size
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from Resume r where r.id > :afterId and r.id <= :toId"
+        + " and (:username is null or r.username = :username) order by r.id")
+    List<Resume> findExportChunk(@Param("username") String username, @Param("afterId") long afterId,
+                                 @Param("toId") long toId, Limit limit);
+
+    // One fetch join per list: Hibernate can't fetch several bags in a single query
+    @Query("select r from Resume r left join fetch r.skills where r.id in :ids")
+    List<Resume> fetchSkills(@Param("ids") Collection<Long> ids);
+
+    @Query("select r from Resume r left join fetch r.education where r.id in :ids")
+    List<Resume> fetchEducation(@Param("ids") Collection<Long> ids);
+
+    @Query("select r from Resume r left join fetch r.projects where r.id in :ids")
+    List<Resume> fetchProjects(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Initializes the skills, education and projects of already loaded resumes
+     * with three queries in total, instead of three per resume. Must run in the
+     * same transaction that loaded the resumes.
+     */
+    default List<Resume> fetchCollections(List<Resume> resumes) {
+        if (!resumes.isEmpty()) {
+            List<Long> ids = resumes.stream().map(Resume::getId).toList();
+            fetchSkills(ids);
+            fetchEducation(ids);
+            fetchProjects(ids);
+        }
+        return resumes;
+    }
+}
@@ -2,6 +2,10 @@ package com.resumeanalyzer.repository;
 
 import com.resumeanalyzer.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +14,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     void deleteByUsername(String username);
 
+    // Swaps in a rehashed password only if the stored hash is still the one that was checked; no other column is written
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :upgraded where u.id = :id and u.password = :current")
+    int upgradePassword(@Param("id") Long id, @Param("current") String current, @Param("upgraded") String upgraded);
 }
@@ -0,0 +1,56 @@
+package com.resumeanalyzer.service;
+
+import java.util.List;
+
+// Manifest of a bulk upload: one entry per file, in the order the files were received
+public class BulkIngestionResult {
+
+    public enum Status { SAVED, FAILED }
+
+    public static class Item {
+        private final String filename;
+        private Status status;
+        private Long resumeId;
+        private String s3Key;
+        private String error;
+
+        Item(String filename) {
+            this.filename = filename;
+        }
+
+        void saved(String s3Key, Long resumeId) {
+            this.status = Status.SAVED;
+            this.s3Key = s3Key;
+            this.resumeId = resumeId;
+        }
+
+        void failed(String error) {
+            this.status = Status.FAILED;
+            this.error = error;
+        }
+
+        public String getFilename() { return filename; }
+        public Status getStatus() { return status; }
+        public Long getResumeId() { return resumeId; }
+        public String getS3Key() { return s3Key; }
+        public String getError() { return error; }
+    }
+
+    private final List<Item> items;
+    private final boolean truncated;
+    private final long elapsedMillis;
+
+    public BulkIngestionResult(List<Item> items, boolean truncated, long elapsedMillis) {
+        this.items = items;
+        this.truncated = truncated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getTotal() { return items.size(); }
+    public long getSaved() { return items.stream().filter(item -> item.status == Status.SAVED).count(); }
+    public long getFailed() { return items.stream().filter(item -> item.status == Status.FAILED).count(); }
+    // True when the file limit was reached and the remaining files were ignored
+    public boolean isTruncated() { return truncated; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public List<Item> getItems() { return items; }
+}
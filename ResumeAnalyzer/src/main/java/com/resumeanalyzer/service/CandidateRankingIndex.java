@@ -0,0 +1,416 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.FullTextIndex;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact scoring profile of every stored resume: interned skill ids and a
+ * sparse term-frequency vector of the summary and projects. Ranking scans the
+ * profiles in one partition per core, each keeping its own bounded top-K heap,
+ * and merges the heaps at the end, so no entity is loaded until the winners
+ * are known.
+ */
+@Service
+public class CandidateRankingIndex implements ResumeIndex {
+
+    public record Match(long resumeId, double score, double skillScore, double textScore, List<String> matchedSkills) {}
+
+    private record Profile(long id, String owner, int[] skills, int[] terms, float[] weights) {}
+
+    private record Scored(Profile profile, double score, double skillScore, double textScore) {}
+
+    private static final Comparator<Scored> BY_SCORE = Comparator.comparingDouble(Scored::score)
+        .thenComparing(scored -> scored.profile().id(), Comparator.reverseOrder());
+
+    private static final int MIN_UNUSED_TERMS = 1024;
+
+    private final double skillWeight;
+    private final int minPartitionSize;
+    private final int partitions;
+    private final ThreadPoolExecutor workers;
+
+    private Profiles data = new Profiles();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // The profiles with their skill and term vocabularies; a rebuild replaces all of it at once
+    private static final class Profiles {
+        private final List<Profile> profiles = new ArrayList<>();
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private final Map<String, Integer> skillIds = new HashMap<>();
+        private final List<String> skillNames = new ArrayList<>();
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private int[] documentFrequency = new int[1024];
+        // Terms no profile uses any more; they still take a slot in every query vector until compacted
+        private int unusedTerms;
+
+        // Inverse document frequencies, recomputed lazily after the profiles change
+        private long modifications;
+        private volatile long idfVersion = -1;
+        private volatile float[] idf = new float[0];
+
+        void index(Resume resume) {
+            List<String> text = new ArrayList<>();
+            if (resume.getSummary() != null) {
+                text.add(resume.getSummary());
+            }
+            if (resume.getProjects() != null) {
+                text.addAll(resume.getProjects());
+            }
+            Map<String, Integer> counts = termCounts(text);
+
+            remove(resume.getId());
+
+            int[] skills = resume.getSkills() == null ? new int[0] : resume.getSkills().stream()
+                .mapToInt(this::internSkill)
+                .distinct()
+                .sorted()
+                .toArray();
+            int[] terms = new int[counts.size()];
+            float[] weights = new float[counts.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                terms[i] = internTerm(entry.getKey());
+                weights[i] = (float) (1 + Math.log(entry.getValue()));
+                documentFrequency[terms[i]]++;
+                i++;
+            }
+
+            slots.put(resume.getId(), profiles.size());
+            profiles.add(new Profile(resume.getId(), resume.getUsername(), skills, terms, weights));
+            modifications++;
+        }
+
+        void remove(Long resumeId) {
+            Integer slot = slots.remove(resumeId);
+            if (slot == null) {
+                return;
+            }
+            Profile removed = profiles.get(slot);
+            for (int term : removed.terms()) {
+                if (--documentFrequency[term] == 0) {
+                    unusedTerms++;
+                }
+            }
+            // Move the last profile into the hole so the list stays dense
+            Profile last = profiles.remove(profiles.size() - 1);
+            if (last != removed) {
+                profiles.set(slot, last);
+                slots.put(last.id(), slot);
+            }
+            modifications++;
+            if (unusedTerms > Math.max(MIN_UNUSED_TERMS, termIds.size() / 2)) {
+                compactTerms();
+            }
+        }
+
+        // Drops the unused terms and renumbers the rest; the profiles are remapped in place under the write lock
+        private void compactTerms() {
+            int[] remap = new int[termIds.size()];
+            int[] frequency = new int[Math.max(1024, termIds.size() - unusedTerms)];
+            int next = 0;
+            for (int term = 0; term < remap.length; term++) {
+                if (documentFrequency[term] > 0) {
+                    frequency[next] = documentFrequency[term];
+                    remap[term] = next++;
+                } else {
+                    remap[term] = -1;
+                }
+            }
+            termIds.entrySet().removeIf(entry -> remap[entry.getValue()] < 0);
+            termIds.replaceAll((term, id) -> remap[id]);
+            for (Profile profile : profiles) {
+                int[] terms = profile.terms();
+                for (int t = 0; t < terms.length; t++) {
+                    terms[t] = remap[terms[t]];
+                }
+            }
+            documentFrequency = frequency;
+            unusedTerms = 0;
+        }
+
+        // Smoothed idf over the whole vocabulary; shared by concurrent rankings until the next write
+        float[] idf() {
+            if (idfVersion != modifications) {
+                float[] values = new float[termIds.size()];
+                double documents = profiles.size();
+                for (int term = 0; term < values.length; term++) {
+                    values[term] = (float) (Math.log((documents + 1) / (documentFrequency[term] + 1)) + 1);
+                }
+                idf = values;
+                idfVersion = modifications;
+            }
+            return idf;
+        }
+
+        // Skills compare case-insensitively; the first spelling seen is the one reported
+        private int internSkill(String skill) {
+            return skillIds.computeIfAbsent(key(skill), k -> {
+                skillNames.add(skill.trim());
+                return skillNames.size() - 1;
+            });
+        }
+
+        private int internTerm(String term) {
+            Integer id = termIds.get(term);
+            if (id == null) {
+                id = termIds.size();
+                termIds.put(term, id);
+                if (id == documentFrequency.length) {
+                    documentFrequency = Arrays.copyOf(documentFrequency, id * 2);
+                }
+            } else if (documentFrequency[id] == 0) {
+                unusedTerms--;
+            }
+            return id;
+        }
+    }
+
+    public CandidateRankingIndex(@Value("${resume.ranking.skill-weight:0.7}") double skillWeight,
+                                 @Value("${resume.ranking.threads:0}") int threads,
+                                 @Value("${resume.ranking.min-partition-size:2048}") int minPartitionSize) {
+        this.skillWeight = Math.max(0, Math.min(1, skillWeight));
+        this.minPartitionSize = Math.max(1, minPartitionSize);
+        this.partitions = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(partitions, partitions, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "resume-ranking-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @Override
+    public void index(Resume resume) {
+        lock.writeLock().lock();
+        try {
+            data.index(resume);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long resumeId) {
+        lock.writeLock().lock();
+        try {
+            data.remove(resumeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            data = new Profiles();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        Profiles fresh = new Profiles();
+        return new Rebuild() {
+            @Override
+            public void index(Resume resume) {
+                fresh.index(resume);
+            }
+
+            @Override
+            public void remove(Long resumeId) {
+                fresh.remove(resumeId);
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    data = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * Best {@code limit} resumes for the given skills and free text. The score
+     * blends the share of requested skills a resume has with the TF-IDF cosine
+     * similarity between the text and the resume's summary and projects. With an
+     * owner, only that user's resumes are considered.
+     */
+    public List<Match> rank(List<String> skills, String text, String owner, int limit)
+            throws InterruptedException, ExecutionException {
+        Map<String, Integer> queryCounts = termCounts(List.of(text == null ? "" : text));
+
+        lock.readLock().lock();
+        try {
+            Profiles data = this.data;
+            List<Profile> profiles = data.profiles;
+            if (profiles.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            float[] idf = data.idf();
+
+            boolean[] wanted = new boolean[data.skillNames.size()];
+            int requested = 0;
+            for (String skill : skills.stream().map(CandidateRankingIndex::key).distinct().toList()) {
+                requested++;
+                Integer id = data.skillIds.get(skill);
+                if (id != null) {
+                    wanted[id] = true;
+                }
+            }
+
+            float[] query = new float[idf.length];
+            double queryNorm = 0;
+            for (Map.Entry<String, Integer> entry : queryCounts.entrySet()) {
+                Integer id = data.termIds.get(entry.getKey());
+                if (id != null) {
+                    query[id] = (float) ((1 + Math.log(entry.getValue())) * idf[id]);
+                    queryNorm += query[id] * query[id];
+                }
+            }
+            Query q = new Query(owner, wanted, requested, query, Math.sqrt(queryNorm), idf, limit);
+
+            List<Scored> top = new ArrayList<>();
+            int parts = Math.max(1, Math.min(partitions, profiles.size() / minPartitionSize));
+            if (parts == 1) {
+                top.addAll(scan(q, profiles, 0, profiles.size()));
+            } else {
+                // The read lock stays held by this thread, so writers wait until every partition is done
+                List<Future<PriorityQueue<Scored>>> futures = new ArrayList<>();
+                int chunk = (profiles.size() + parts - 1) / parts;
+                for (int from = 0; from < profiles.size(); from += chunk) {
+                    int start = from;
+                    int end = Math.min(profiles.size(), from + chunk);
+                    futures.add(workers.submit(() -> scan(q, profiles, start, end)));
+                }
+                for (Future<PriorityQueue<Scored>> future : futures) {
+                    top.addAll(future.get());
+                }
+            }
+
+            return top.stream()
+                .sorted(BY_SCORE.reversed())
+                .limit(limit)
+                .map(scored -> new Match(scored.profile().id(), scored.score(), scored.skillScore(),
+                    scored.textScore(), matchedSkills(data, scored.profile(), wanted)))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("profiles", data.profiles.size());
+            stats.put("skills", data.skillNames.size());
+            stats.put("terms", data.termIds.size());
+            stats.put("partitions", partitions);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Query(String owner, boolean[] wanted, int requested, float[] vector, double norm,
+                         float[] idf, int limit) {}
+
+    private PriorityQueue<Scored> scan(Query q, List<Profile> profiles, int from, int to) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(q.limit() + 1, BY_SCORE);
+        for (int i = from; i < to; i++) {
+            Profile profile = profiles.get(i);
+            if (q.owner() != null && !q.owner().equals(profile.owner())) {
+                continue;
+            }
+
+            int matched = 0;
+            for (int skill : profile.skills()) {
+                if (skill < q.wanted().length && q.wanted()[skill]) {
+                    matched++;
+                }
+            }
+            double skillScore = q.requested() == 0 ? 0 : (double) matched / q.requested();
+
+            double textScore = 0;
+            if (q.norm() > 0) {
+                double dot = 0;
+                double norm = 0;
+                for (int t = 0; t < profile.terms().length; t++) {
+                    int term = profile.terms()[t];
+                    double weight = profile.weights()[t] * q.idf()[term];
+                    norm += weight * weight;
+                    dot += weight * q.vector()[term];
+                }
+                textScore = dot == 0 ? 0 : dot / (Math.sqrt(norm) * q.norm());
+            }
+
+            double score = skillWeight * skillScore + (1 - skillWeight) * textScore;
+            if (score > 0 && (heap.size() < q.limit() || score > heap.peek().score())) {
+                heap.add(new Scored(profile, score, skillScore, textScore));
+                if (heap.size() > q.limit()) {
+                    heap.poll();
+                }
+            }
+        }
+        return heap;
+    }
+
+    private static List<String> matchedSkills(Profiles data, Profile profile, boolean[] wanted) {
+        List<String> matched = new ArrayList<>();
+        for (int skill : profile.skills()) {
+            if (skill < wanted.length && wanted[skill]) {
+                matched.add(data.skillNames.get(skill));
+            }
+        }
+        return matched;
+    }
+
+    private static Map<String, Integer> termCounts(List<String> text) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String value : text) {
+            for (String token : FullTextIndex.tokenize(value)) {
+                if (token.length() > 1) {
+                    counts.merge(token, 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static String key(String skill) {
+        return skill.trim().toLowerCase();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
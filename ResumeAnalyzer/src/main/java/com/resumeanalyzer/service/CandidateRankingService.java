@@ -0,0 +1,70 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.CandidateMatch;
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.dto.ResumeSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Best candidates for a job description: parse it like a resume, score in memory, then load the winners
+@Service
+public class CandidateRankingService {
+
+    private final GuardedResumeParserService parser;
+    private final CandidateRankingIndex rankingIndex;
+    private final ResumeService resumeService;
+    private final int defaultResults;
+    private final int maxResults;
+
+    public CandidateRankingService(GuardedResumeParserService parser,
+                                   CandidateRankingIndex rankingIndex,
+                                   ResumeService resumeService,
+                                   @Value("${resume.ranking.default-results:10}") int defaultResults,
+                                   @Value("${resume.ranking.max-results:100}") int maxResults) {
+        this.parser = parser;
+        this.rankingIndex = rankingIndex;
+        this.resumeService = resumeService;
+        this.defaultResults = defaultResults;
+        this.maxResults = maxResults;
+    }
+
+    public Map<String, Object> rank(String jobDescription, String owner, Integer top)
+            throws IOException, InterruptedException, ExecutionException {
+        if (jobDescription == null || jobDescription.isBlank()) {
+            throw new IllegalArgumentException("Job description cannot be empty");
+        }
+        int limit = top == null || top <= 0 ? defaultResults : Math.min(top, maxResults);
+        long start = System.nanoTime();
+
+        ResumeDTO job = parser.parseText(jobDescription);
+        List<CandidateRankingIndex.Match> matches = rankingIndex.rank(job.getSkills(), jobDescription, owner, limit);
+        long scoredMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Map<Long, ResumeSummary> summaries = resumeService
+            .getResumeSummaries(matches.stream().map(CandidateRankingIndex.Match::resumeId).toList())
+            .stream()
+            .collect(Collectors.toMap(ResumeSummary::id, Function.identity()));
+        List<CandidateMatch> candidates = matches.stream()
+            .filter(match -> summaries.containsKey(match.resumeId()))
+            .map(match -> {
+                ResumeSummary summary = summaries.get(match.resumeId());
+                return new CandidateMatch(summary.id(), summary.name(), summary.email(), match.score(),
+                    match.skillScore(), match.textScore(), match.matchedSkills());
+            })
+            .toList();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("skills", job.getSkills());
+        result.put("scoredMillis", scoredMillis);
+        result.put("candidates", candidates);
+        return result;
+    }
+}
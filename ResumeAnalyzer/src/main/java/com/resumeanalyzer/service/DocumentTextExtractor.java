@@ -0,0 +1,48 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.DocumentFormat;
+import com.resumeanalyzer.util.ResumeTextCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+// Routes each document to the cheapest extractor for its format
+@Service
+public class DocumentTextExtractor {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentTextExtractor.class);
+
+    private final PdfTextExtractor pdfExtractor;
+    private final DocxTextExtractor docxExtractor;
+    private final TikaTextExtractor tikaExtractor;
+
+    public DocumentTextExtractor(PdfTextExtractor pdfExtractor,
+                                 DocxTextExtractor docxExtractor,
+                                 TikaTextExtractor tikaExtractor) {
+        this.pdfExtractor = pdfExtractor;
+        this.docxExtractor = docxExtractor;
+        this.tikaExtractor = tikaExtractor;
+    }
+
+    public void extract(DocumentContent document, ResumeTextCollector collector) throws IOException {
+        DocumentFormat format = DocumentFormat.detect(document);
+        TextExtractor extractor = switch (format) {
+            case PDF -> pdfExtractor;
+            case DOCX -> docxExtractor;
+            case OTHER -> tikaExtractor;
+        };
+        try {
+            extractor.extract(document, collector);
+        } catch (Exception e) {
+            if (collector.isTruncated()) {
+                // Budget reached: keep what was extracted so far
+                logger.info("Stopped {} text extraction after {} chars and {} pages",
+                    format, collector.getCharCount(), collector.getPageCount());
+                return;
+            }
+            throw new IOException("Text extraction failed: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.ResumeTextCollector;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackageRelationship;
+import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xwpf.usermodel.XWPFRelation;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Streams DOCX text with a SAX pass over the WordprocessingML parts instead of building the XWPF object model
+@Component
+public class DocxTextExtractor implements TextExtractor {
+
+    private static final String WORDPROCESSING_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final char[] NEWLINE = {'\n'};
+    private static final char[] TAB = {'\t'};
+
+    @Override
+    public void extract(DocumentContent document, ResumeTextCollector collector) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(new ByteArrayInputStream(document.getBytes()));
+        } catch (InvalidFormatException | UnsupportedFileFormatException e) {
+            throw new IOException("Not a valid DOCX package: " + e.getMessage(), e);
+        }
+        try {
+            PackageRelationshipCollection documents =
+                pkg.getRelationshipsByType(PackageRelationshipTypes.CORE_DOCUMENT);
+            if (documents.size() == 0) {
+                throw new IOException("DOCX package has no main document part");
+            }
+            PackagePart main = pkg.getPart(documents.getRelationship(0));
+
+            collector.startPage();
+            // Contact details often live in the page header, so headers come first like in Tika's output
+            for (PackageRelationship header : main.getRelationshipsByType(XWPFRelation.HEADER.getRelation())) {
+                parse(main.getRelatedPart(header), collector);
+            }
+            parse(main, collector);
+        } catch (InvalidFormatException e) {
+            throw new IOException("Invalid DOCX package: " + e.getMessage(), e);
+        } finally {
+            pkg.revert(); // read-only: close without writing anything back
+        }
+    }
+
+    private void parse(PackagePart part, ResumeTextCollector collector) throws IOException {
+        try (InputStream in = part.getInputStream()) {
+            XMLReader reader = XMLHelper.newXMLReader();
+            reader.setContentHandler(new WordprocessingHandler(collector));
+            reader.parse(new InputSource(in));
+        } catch (SAXException e) {
+            if (e.getException() instanceof ResumeTextCollector.LimitReachedException limit) {
+                throw limit;
+            }
+            if (e.getException() instanceof ResumeTextCollector.CancelledException cancelled) {
+                throw cancelled;
+            }
+            throw new IOException("Failed to read DOCX part " + part.getPartName() + ": " + e.getMessage(), e);
+        } catch (ParserConfigurationException e) {
+            throw new IOException("XML parser unavailable: " + e.getMessage(), e);
+        }
+    }
+
+    private static class WordprocessingHandler extends DefaultHandler {
+        private final ResumeTextCollector collector;
+        private boolean inText;
+        // w:tab is also the tab-stop definition inside w:pPr/w:tabs; only a tab within a run is text
+        private int runDepth;
+
+        WordprocessingHandler(ResumeTextCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+            if (!WORDPROCESSING_NS.equals(uri)) {
+                return;
+            }
+            switch (localName) {
+                case "r" -> runDepth++;
+                case "t" -> inText = true;
+                case "tab" -> {
+                    if (runDepth > 0) {
+                        emit(TAB, 1);
+                    }
+                }
+                case "br", "cr" -> {
+                    if ("page".equals(atts.getValue(WORDPROCESSING_NS, "type"))) {
+                        pageBreak();
+                    }
+                    emit(NEWLINE, 1);
+                }
+                default -> { }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if (!WORDPROCESSING_NS.equals(uri)) {
+                return;
+            }
+            switch (localName) {
+                case "r" -> runDepth--;
+                case "t" -> inText = false;
+                case "p" -> emit(NEWLINE, 1);
+                case "tc" -> emit(TAB, 1);
+                default -> { }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            if (inText) {
+                emit(ch, start, length);
+            }
+        }
+
+        private void emit(char[] chars, int length) throws SAXException {
+            emit(chars, 0, length);
+        }
+
+        private void emit(char[] chars, int start, int length) throws SAXException {
+            try {
+                collector.append(chars, start, length);
+            } catch (ResumeTextCollector.LimitReachedException | ResumeTextCollector.CancelledException e) {
+                throw new SAXException(e);
+            }
+        }
+
+        private void pageBreak() throws SAXException {
+            try {
+                collector.startPage();
+            } catch (ResumeTextCollector.LimitReachedException | ResumeTextCollector.CancelledException e) {
+                throw new SAXException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.LshIndex;
+import com.resumeanalyzer.util.MinHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Near-duplicate detection over the MinHash signatures stored with each
+ * resume. A new resume is linked to the cluster of its closest match among
+ * the same user's resumes before it is saved; only the admin view groups
+ * resumes into clusters across users.
+ */
+@Service
+public class DuplicateDetectionIndex implements ResumeIndex {
+
+    private final double threshold;
+    private Signatures signatures;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong flagged = new AtomicLong();
+
+    // Everything a rebuild replaces at once
+    private static final class Signatures {
+        private final LshIndex lsh;
+        private final Map<Long, Long> duplicateOf = new HashMap<>();
+        private final Map<Long, String> owners = new HashMap<>();
+
+        Signatures(double threshold) {
+            this.lsh = new LshIndex(threshold);
+        }
+
+        void index(Resume resume) {
+            int[] signature = MinHash.fromBytes(resume.getTextSignature());
+            remove(resume.getId());
+            if (signature != null) {
+                lsh.put(resume.getId(), signature);
+                owners.put(resume.getId(), resume.getUsername());
+                if (resume.getDuplicateOf() != null) {
+                    duplicateOf.put(resume.getId(), resume.getDuplicateOf());
+                }
+            }
+        }
+
+        void remove(Long resumeId) {
+            lsh.remove(resumeId);
+            duplicateOf.remove(resumeId);
+            owners.remove(resumeId);
+        }
+    }
+
+    public DuplicateDetectionIndex(@Value("${resume.duplicates.threshold:0.8}") double threshold) {
+        this.threshold = threshold;
+        this.signatures = new Signatures(threshold);
+    }
+
+    @Override
+    public void prepare(Resume resume) {
+        int[] signature = MinHash.fromBytes(resume.getTextSignature());
+        if (signature == null) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            // Another user's copy of the same CV must not show up in this user's uploads
+            Signatures current = signatures;
+            List<LshIndex.Similar> similar = current.lsh.similar(signature,
+                id -> Objects.equals(resume.getUsername(), current.owners.get(id)));
+            if (!similar.isEmpty()) {
+                // Link to the cluster's first resume rather than to another duplicate, unless it was deleted
+                long closest = similar.get(0).id();
+                Long root = current.duplicateOf.get(closest);
+                resume.setDuplicateOf(root != null && current.owners.containsKey(root) ? root : closest);
+                flagged.incrementAndGet();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Resume resume) {
+        lock.writeLock().lock();
+        try {
+            signatures.index(resume);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long resumeId) {
+        lock.writeLock().lock();
+        try {
+            signatures.remove(resumeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            signatures = new Signatures(threshold);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        Signatures fresh = new Signatures(threshold);
+        return new Rebuild() {
+            @Override
+            public void index(Resume resume) {
+                fresh.index(resume);
+            }
+
+            @Override
+            public void remove(Long resumeId) {
+                fresh.remove(resumeId);
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    signatures = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    // Resume ids grouped by near-duplicate cluster, largest cluster first
+    public List<List<Long>> clusters() {
+        lock.readLock().lock();
+        try {
+            return signatures.lsh.clusters();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("signatures", signatures.lsh.size());
+            stats.put("linkedDuplicates", signatures.duplicateOf.size());
+            stats.put("flaggedSinceStartup", flagged.get());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs every parse on a dedicated pool under a wall-clock budget. A parse that
+ * overruns is cancelled cooperatively (the extractors and matchers check the
+ * cancel flag as they go) and the caller gets an error straight away. Documents
+ * that keep timing out are quarantined by content hash and rejected without
+ * another attempt.
+ */
+@Service
+@Primary
+public class GuardedResumeParserService implements ResumeParserService {
+    private static final Logger logger = LoggerFactory.getLogger(GuardedResumeParserService.class);
+
+    private static final int RUNNING = 0;
+    private static final int FINISHED = 1;
+    private static final int ABANDONED = 2;
+
+    private final ResumeParserServiceImpl delegate;
+    private final ThreadPoolExecutor workers;
+    private final long timeoutMillis;
+    private final int quarantineAfter;
+    private final Map<String, Integer> timeoutsByDocument;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private final AtomicLong parses = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong busyRejections = new AtomicLong();
+    private final AtomicLong quarantineRejections = new AtomicLong();
+    // Timed-out parses that have not noticed the cancellation yet and still hold a worker
+    private final AtomicInteger overrunning = new AtomicInteger();
+
+    public GuardedResumeParserService(ResumeParserServiceImpl delegate,
+                                      @Value("${resume.parser.watchdog.threads:0}") int threads,
+                                      @Value("${resume.parser.watchdog.queue-capacity:200}") int queueCapacity,
+                                      @Value("${resume.parser.timeout-ms:15000}") long timeoutMillis,
+                                      @Value("${resume.parser.quarantine.after-timeouts:2}") int quarantineAfter,
+                                      @Value("${resume.parser.quarantine.max-entries:10000}") int maxQuarantineEntries) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.quarantineAfter = quarantineAfter;
+        this.timeoutsByDocument = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > maxQuarantineEntries;
+            }
+        };
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "resume-parse-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public ResumeDTO parseResume(MultipartFile file) throws IOException {
+        return parseResume(DocumentContent.from(file));
+    }
+
+    @Override
+    public ResumeDTO parseResume(DocumentContent document) throws IOException {
+        return parseResume(document, () -> false);
+    }
+
+    @Override
+    public ResumeDTO parseResume(DocumentContent document, BooleanSupplier cancelled) throws IOException {
+        return guard(document.getSha256(), document.getFilename(), cancelled,
+            stop -> delegate.parseResume(document, stop));
+    }
+
+    // Pasted text such as a job description, under the same budget and quarantine as uploads
+    public ResumeDTO parseText(String text) throws IOException {
+        DocumentContent content = new DocumentContent(text.getBytes(StandardCharsets.UTF_8), "text", "text/plain");
+        return guard(content.getSha256(), content.getFilename(), () -> false,
+            stop -> delegate.parseText(text, stop));
+    }
+
+    private interface Parse {
+        ResumeDTO run(BooleanSupplier stop) throws IOException;
+    }
+
+    private ResumeDTO guard(String contentHash, String name, BooleanSupplier cancelled, Parse parse) throws IOException {
+        if (isQuarantined(contentHash)) {
+            quarantineRejections.incrementAndGet();
+            throw new IOException("Document is quarantined after repeated parse timeouts");
+        }
+
+        AtomicInteger state = new AtomicInteger(RUNNING);
+        BooleanSupplier stop = () -> state.get() == ABANDONED || cancelled.getAsBoolean();
+        long start = System.nanoTime();
+        Future<ResumeDTO> future;
+        try {
+            future = workers.submit(() -> {
+                try {
+                    return parse.run(stop);
+                } finally {
+                    if (!state.compareAndSet(RUNNING, FINISHED)) {
+                        overrunning.decrementAndGet();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            busyRejections.incrementAndGet();
+            throw new IOException("Parser is busy, please retry");
+        }
+        parses.incrementAndGet();
+
+        try {
+            ResumeDTO dto = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            clearTimeouts(contentHash);
+            return dto;
+        } catch (TimeoutException e) {
+            abandon(state, future);
+            timeouts.incrementAndGet();
+            int count = recordTimeout(contentHash);
+            logger.warn("Parse of {} ({}) timed out after {} ms, {} timeout(s) so far",
+                name, contentHash, timeoutMillis, count);
+            throw new IOException("Resume parsing timed out after " + timeoutMillis + " ms");
+        } catch (ExecutionException e) {
+            failures.incrementAndGet();
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Resume parsing failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            abandon(state, future);
+            Thread.currentThread().interrupt();
+            throw new IOException("Resume parsing interrupted", e);
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    private void abandon(AtomicInteger state, Future<?> future) {
+        if (state.compareAndSet(RUNNING, ABANDONED)) {
+            overrunning.incrementAndGet();
+        }
+        future.cancel(true);
+    }
+
+    private boolean isQuarantined(String contentHash) {
+        synchronized (timeoutsByDocument) {
+            Integer count = timeoutsByDocument.get(contentHash);
+            return count != null && count >= quarantineAfter;
+        }
+    }
+
+    private int recordTimeout(String contentHash) {
+        synchronized (timeoutsByDocument) {
+            return timeoutsByDocument.merge(contentHash, 1, Integer::sum);
+        }
+    }
+
+    private void clearTimeouts(String contentHash) {
+        synchronized (timeoutsByDocument) {
+            timeoutsByDocument.remove(contentHash);
+        }
+    }
+
+    public int clearQuarantine() {
+        synchronized (timeoutsByDocument) {
+            int size = timeoutsByDocument.size();
+            timeoutsByDocument.clear();
+            return size;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("timeoutMillis", timeoutMillis);
+        stats.put("poolSize", workers.getPoolSize());
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("queued", workers.getQueue().size());
+        stats.put("overrunning", overrunning.get());
+        stats.put("parses", parses.get());
+        stats.put("failures", failures.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("busyRejections", busyRejections.get());
+        stats.put("quarantineRejections", quarantineRejections.get());
+        synchronized (timeoutsByDocument) {
+            stats.put("quarantined", timeoutsByDocument.values().stream().filter(count -> count >= quarantineAfter).count());
+        }
+        stats.put("latency", latency.snapshot());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,79 @@
+package com.resumeanalyzer.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Progress of one asynchronous upload, as reported by the job status endpoint
+public class IngestionJob {
+
+    public enum Status {
+        QUEUED(0), PROCESSING(40), SAVING(80), COMPLETED(100), FAILED(100);
+
+        private final int progress;
+
+        Status(int progress) {
+            this.progress = progress;
+        }
+    }
+
+    private final String id;
+    private final String username;
+    private final String filename;
+    private final Instant submittedAt = Instant.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Long resumeId;
+    private volatile String s3Key;
+    private volatile String error;
+    private volatile Map<String, Long> timings;
+
+    public IngestionJob(String id, String username, String filename) {
+        this.id = id;
+        this.username = username;
+        this.filename = filename;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+    }
+
+    void advance(Status next) {
+        status = next;
+    }
+
+    void complete(IngestionResult result) {
+        this.s3Key = result.getS3Key();
+        this.resumeId = result.getResume().getId();
+        this.timings = result.getTimings();
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getJobId() { return id; }
+    @JsonIgnore
+    public String getUsername() { return username; }
+    public String getFilename() { return filename; }
+    public Status getStatus() { return status; }
+    public int getProgress() { return status.progress; }
+    public Instant getSubmittedAt() { return submittedAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public Long getResumeId() { return resumeId; }
+    public String getS3Key() { return s3Key; }
+    public String getError() { return error; }
+    public Map<String, Long> getTimings() { return timings; }
+}
@@ -0,0 +1,23 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+
+import java.util.Map;
+
+// Outcome of storing, parsing and saving one upload, with the time spent in each stage
+public class IngestionResult {
+
+    private final String s3Key;
+    private final Resume resume;
+    private final Map<String, Long> timings;
+
+    public IngestionResult(String s3Key, Resume resume, Map<String, Long> timings) {
+        this.s3Key = s3Key;
+        this.resume = resume;
+        this.timings = timings;
+    }
+
+    public String getS3Key() { return s3Key; }
+    public Resume getResume() { return resume; }
+    public Map<String, Long> getTimings() { return timings; }
+}
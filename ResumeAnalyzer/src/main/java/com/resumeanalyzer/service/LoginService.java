@@ -0,0 +1,186 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.entity.User;
+import com.resumeanalyzer.repository.UserRepository;
+import com.resumeanalyzer.util.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the BCrypt work of logins and registrations on its own core-sized pool
+ * with a bounded queue, so a burst of logins can't take every request thread.
+ * When the queue is full, or a check waits too long, the caller is told to back
+ * off with {@link RejectedExecutionException} and {@link #retryAfterSeconds()}.
+ * Hashes made with a lower cost than the configured one are replaced on the
+ * next successful login, without touching the rest of the user's row.
+ */
+@Service
+public class LoginService {
+    private static final Logger logger = LoggerFactory.getLogger(LoginService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor workers;
+    private final int poolSize;
+    private final long timeoutMillis;
+    private final LatencyHistogram hashLatency = new LatencyHistogram();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong busyRejections = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong upgrades = new AtomicLong();
+
+    public LoginService(PasswordEncoder passwordEncoder,
+                        UserRepository userRepository,
+                        @Value("${security.login.threads:0}") int threads,
+                        @Value("${security.login.queue-capacity:64}") int queueCapacity,
+                        @Value("${security.login.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.timeoutMillis = timeoutMillis;
+        this.poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "login-hash-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private record Verification(boolean matches, String upgradedHash) {}
+
+    /**
+     * Whether the password matches the user's stored hash. A matching password
+     * whose hash is weaker than the current cost is rehashed and saved.
+     *
+     * @throws RejectedExecutionException if the login pool is saturated
+     */
+    public boolean verifyPassword(User user, String rawPassword) {
+        String stored = user.getPassword();
+        Verification verification = run(() -> {
+            boolean matches = rawPassword != null && stored != null && passwordEncoder.matches(rawPassword, stored);
+            String upgraded = matches && passwordEncoder.upgradeEncoding(stored)
+                ? passwordEncoder.encode(rawPassword) : null;
+            return new Verification(matches, upgraded);
+        });
+        verifications.incrementAndGet();
+        if (!verification.matches()) {
+            failures.incrementAndGet();
+            return false;
+        }
+        if (verification.upgradedHash() != null) {
+            upgradeHash(user, stored, verification.upgradedHash());
+        }
+        return true;
+    }
+
+    // Best effort: the login has already succeeded, so a failed write only leaves the old hash in place
+    private void upgradeHash(User user, String stored, String upgraded) {
+        try {
+            if (userRepository.upgradePassword(user.getId(), stored, upgraded) == 1) {
+                user.setPassword(upgraded);
+                upgrades.incrementAndGet();
+                logger.info("Upgraded password hash for user: {}", user.getUsername());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to upgrade password hash for user {}: {}", user.getUsername(), e.getMessage());
+        }
+    }
+
+    /**
+     * Hashes a new password on the login pool.
+     *
+     * @throws RejectedExecutionException if the login pool is saturated
+     */
+    public String encodePassword(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // Seconds until the queue ahead of a new request should have drained, at least one
+    public long retryAfterSeconds() {
+        double hashMillis = Math.max(1, hashLatency.percentileMillis(0.5));
+        double drainMillis = (workers.getQueue().size() + workers.getActiveCount()) * hashMillis / poolSize;
+        return Math.max(1, (long) Math.ceil(drainMillis / 1000));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", poolSize);
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("queued", workers.getQueue().size());
+        stats.put("queueRemaining", workers.getQueue().remainingCapacity());
+        stats.put("timeoutMillis", timeoutMillis);
+        stats.put("verifications", verifications.get());
+        stats.put("failures", failures.get());
+        stats.put("busyRejections", busyRejections.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("hashUpgrades", upgrades.get());
+        stats.put("retryAfterSeconds", retryAfterSeconds());
+        stats.put("queueWait", queueWait.snapshot());
+        stats.put("hashLatency", hashLatency.snapshot());
+        return stats;
+    }
+
+    private <T> T run(Callable<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = workers.submit(() -> {
+                long start = System.nanoTime();
+                queueWait.record(start - submitted);
+                try {
+                    return work.call();
+                } finally {
+                    hashLatency.record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            busyRejections.incrementAndGet();
+            throw new RejectedExecutionException("Login queue is full", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.incrementAndGet();
+            throw new RejectedExecutionException("Login timed out waiting for the hash pool", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Login interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
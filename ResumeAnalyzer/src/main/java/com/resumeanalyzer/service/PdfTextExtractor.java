@@ -0,0 +1,248 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.ResumeTextCollector;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Direct PDFBox text stripping, without going through Tika's auto-detection
+@Component
+public class PdfTextExtractor implements TextExtractor {
+
+    private final boolean parallel;
+    private final int pageThreshold;
+    private final int pagesPerTask;
+    private final ForkJoinPool pool;
+
+    public PdfTextExtractor(@Value("${resume.parser.pdf.parallel.enabled:false}") boolean parallel,
+                            @Value("${resume.parser.pdf.parallel.page-threshold:20}") int pageThreshold,
+                            @Value("${resume.parser.pdf.parallel.pages-per-task:8}") int pagesPerTask,
+                            @Value("${resume.parser.pdf.parallel.threads:0}") int threads) {
+        this.parallel = parallel;
+        this.pageThreshold = pageThreshold;
+        this.pagesPerTask = Math.max(1, pagesPerTask);
+        if (parallel) {
+            int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+            this.pool = new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("pdf-extract-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        } else {
+            this.pool = null;
+        }
+    }
+
+    @Override
+    public void extract(DocumentContent document, ResumeTextCollector collector) throws IOException {
+        try (PDDocument pdf = load(document)) {
+            int pages = Math.min(pdf.getNumberOfPages(), collector.getMaxPages());
+            if (parallel && pages >= pageThreshold && pages > pagesPerTask) {
+                extractParallel(pdf, document, pages, collector);
+            } else {
+                extractPages(pdf, 1, pages, collector);
+            }
+        }
+    }
+
+    public PDDocument load(DocumentContent document) throws IOException {
+        return PDDocument.load(document.getBytes(), "", null, null, MemoryUsageSetting.setupMainMemoryOnly());
+    }
+
+    // Extracts the 1-based, inclusive page range into the collector
+    public void extractPages(PDDocument pdf, int startPage, int endPage, ResumeTextCollector collector)
+            throws IOException {
+        strip(pdf, startPage, endPage, collector.asWriter(), collector::startPage);
+    }
+
+    /**
+     * Page ranges are stripped concurrently and stitched back in page order.
+     * A PDDocument can't be shared between threads, so each worker loads its
+     * own copy once and takes every n-th range; the first range runs on the
+     * calling thread against the document that is already loaded. The buffers
+     * share what is left of the collector's character budget, so no more than
+     * that is held at once. A range that found the budget spent by later
+     * ranges is read again, with everything after it, straight into the
+     * collector.
+     */
+    private void extractParallel(PDDocument pdf, DocumentContent document, int pageCount,
+                                 ResumeTextCollector collector) throws IOException {
+        List<int[]> ranges = new ArrayList<>();
+        for (int start = 1; start <= pageCount; start += pagesPerTask) {
+            ranges.add(new int[] {start, Math.min(pageCount, start + pagesPerTask - 1)});
+        }
+        List<CompletableFuture<RangeText>> results = new ArrayList<>();
+        ranges.forEach(range -> results.add(new CompletableFuture<>()));
+        Budget budget = new Budget(collector);
+
+        int workers = Math.min(pool.getParallelism(), ranges.size() - 1);
+        for (int w = 0; w < workers; w++) {
+            int first = w + 1;
+            pool.execute(() -> {
+                try (PDDocument copy = load(document)) {
+                    for (int r = first; r < ranges.size(); r += workers) {
+                        results.get(r).complete(extractRange(copy, ranges.get(r), budget));
+                    }
+                } catch (Throwable e) {
+                    // Fails this worker's remaining ranges; ranges already done keep their text
+                    results.forEach(result -> result.completeExceptionally(e));
+                }
+            });
+        }
+
+        try {
+            results.get(0).complete(extractRange(pdf, ranges.get(0), budget));
+            for (int r = 0; r < ranges.size(); r++) {
+                RangeText range = results.get(r).get();
+                if (!range.complete()) {
+                    budget.stop();
+                    extractPages(pdf, ranges.get(r)[0], pageCount, collector);
+                    return;
+                }
+                stitch(range.pages(), collector);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("PDF extraction interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("PDF page extraction failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            // Pool threads ignore interrupts, so the workers are stopped through the buffers they write to
+            budget.stop();
+        }
+    }
+
+    // The pages of one range; incomplete when the shared budget ran out before its end
+    private record RangeText(List<String> pages, boolean complete) {}
+
+    private RangeText extractRange(PDDocument pdf, int[] range, Budget budget) throws IOException {
+        PageBuffer pages = new PageBuffer(budget);
+        try {
+            strip(pdf, range[0], range[1], pages, pages::startPage);
+        } catch (ResumeTextCollector.LimitReachedException e) {
+            return new RangeText(List.of(), false);
+        }
+        return new RangeText(pages.toPages(), true);
+    }
+
+    private static void stitch(List<String> pages, ResumeTextCollector collector) {
+        for (String page : pages) {
+            collector.startPage();
+            collector.append(page);
+        }
+    }
+
+    private void strip(PDDocument pdf, int startPage, int endPage, Writer out, Runnable onPageStart)
+            throws IOException {
+        if (endPage < startPage) {
+            return;
+        }
+        PDFTextStripper stripper = new PDFTextStripper() {
+            @Override
+            protected void startPage(PDPage page) throws IOException {
+                onPageStart.run();
+                super.startPage(page);
+            }
+        };
+        stripper.setLineSeparator("\n");
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        stripper.writeText(pdf, out);
+    }
+
+    // Characters the range buffers of one parse may still take between them
+    private static final class Budget {
+        private final ResumeTextCollector collector;
+        private final AtomicLong remaining;
+        private volatile boolean stopped;
+
+        Budget(ResumeTextCollector collector) {
+            this.collector = collector;
+            this.remaining = new AtomicLong(collector.getMaxChars() - collector.getCharCount());
+        }
+
+        void check() {
+            collector.checkCancelled();
+            if (stopped) {
+                throw new ResumeTextCollector.CancelledException();
+            }
+        }
+
+        // Takes up to the wanted number of characters and returns how many it got
+        long take(long wanted) {
+            while (true) {
+                long left = remaining.get();
+                long taken = Math.min(wanted, left);
+                if (remaining.compareAndSet(left, left - taken)) {
+                    return taken;
+                }
+            }
+        }
+
+        void stop() {
+            stopped = true;
+        }
+    }
+
+    // Collects one string per page, within the budget shared by every range of the parse
+    private static class PageBuffer extends Writer {
+        private final List<StringBuilder> pages = new ArrayList<>();
+        private final Budget budget;
+
+        PageBuffer(Budget budget) {
+            this.budget = budget;
+        }
+
+        void startPage() {
+            budget.check();
+            pages.add(new StringBuilder());
+        }
+
+        List<String> toPages() {
+            return pages.stream().map(StringBuilder::toString).toList();
+        }
+
+        @Override
+        public void write(char[] text, int start, int length) {
+            budget.check();
+            if (pages.isEmpty()) {
+                startPage();
+            }
+            int accepted = (int) budget.take(length);
+            pages.get(pages.size() - 1).append(text, start, accepted);
+            if (accepted < length) {
+                throw new ResumeTextCollector.LimitReachedException("Shared character budget reached");
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+}
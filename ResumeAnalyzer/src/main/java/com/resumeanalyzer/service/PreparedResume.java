@@ -0,0 +1,26 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeDTO;
+
+import java.util.Map;
+
+// A document that has been stored and parsed but not saved yet
+public class PreparedResume {
+
+    private final String filename;
+    private final String s3Key;
+    private final ResumeDTO parsedData;
+    private final Map<String, Long> timings;
+
+    public PreparedResume(String filename, String s3Key, ResumeDTO parsedData, Map<String, Long> timings) {
+        this.filename = filename;
+        this.s3Key = s3Key;
+        this.parsedData = parsedData;
+        this.timings = timings;
+    }
+
+    public String getFilename() { return filename; }
+    public String getS3Key() { return s3Key; }
+    public ResumeDTO getParsedData() { return parsedData; }
+    public Map<String, Long> getTimings() { return timings; }
+}
@@ -0,0 +1,351 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.DocumentContent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Bulk ingestion of many resumes in one request, either as a multi-file upload
+ * or as a ZIP archive. Archive entries are read one at a time; each document is
+ * stored and parsed on a worker pool while the next one is read, and parsed
+ * resumes are saved in batches. A failing file is recorded in the manifest and
+ * does not stop the rest of the upload. If the request itself can't be read any
+ * further (a damaged archive or a client that went away), reading stops there
+ * and the files read so far are still finished and reported.
+ */
+@Service
+public class ResumeBulkIngestionService {
+    private static final Logger logger = LoggerFactory.getLogger(ResumeBulkIngestionService.class);
+
+    private final ResumeIngestionService ingestionService;
+    private final ResumeService resumeService;
+    private final ExecutorService workers;
+    // Bounds how many documents are held in memory across all bulk uploads
+    private final Semaphore inFlight;
+    private final int batchSize;
+    private final int maxFiles;
+    private final long maxFileBytes;
+
+    public ResumeBulkIngestionService(ResumeIngestionService ingestionService,
+                                      ResumeService resumeService,
+                                      @Value("${resume.bulk.threads:0}") int threads,
+                                      @Value("${resume.bulk.batch-size:50}") int batchSize,
+                                      @Value("${resume.bulk.max-files:5000}") int maxFiles,
+                                      @Value("${resume.bulk.max-file-bytes:10485760}") long maxFileBytes) {
+        this.ingestionService = ingestionService;
+        this.resumeService = resumeService;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileBytes;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "resume-bulk-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.inFlight = new Semaphore(poolSize * 2);
+    }
+
+    public BulkIngestionResult ingestFiles(List<MultipartFile> files, String username) {
+        Upload upload = new Upload(username);
+        for (MultipartFile file : files) {
+            if (upload.stopped) {
+                break;
+            }
+            try (InputStream in = file.getInputStream()) {
+                if (isZip(file.getOriginalFilename(), file.getContentType())) {
+                    readZip(file.getOriginalFilename(), in, upload);
+                } else if (!upload.add(file.getOriginalFilename(), file.getSize(), file.getContentType(), in)) {
+                    break;
+                }
+            } catch (IOException e) {
+                upload.stop(file.getOriginalFilename(), "File could not be read: " + e.getMessage());
+            }
+        }
+        return upload.finish();
+    }
+
+    public BulkIngestionResult ingestZip(InputStream in, String username) {
+        Upload upload = new Upload(username);
+        readZip("request body", in, upload);
+        return upload.finish();
+    }
+
+    private void readZip(String archiveName, InputStream in, Upload upload) {
+        ZipInputStream zip = new ZipInputStream(in);
+        try {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = baseName(entry.getName());
+                if (entry.isDirectory() || entry.getName().startsWith("__MACOSX/") || name.startsWith(".")) {
+                    continue;
+                }
+                boolean accepted = isZip(name, null)
+                    ? upload.reject(name, "Nested archives are not supported")
+                    : upload.add(name, entry.getSize(), null, zip);
+                if (!accepted) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // A corrupt or cut-off archive still keeps the files read before the damage
+            logger.warn("Stopped reading archive {}: {}", archiveName, e.getMessage());
+            upload.stop(archiveName, "Archive could not be read completely: " + e.getMessage());
+        }
+    }
+
+    private static boolean isZip(String filename, String contentType) {
+        return (filename != null && filename.toLowerCase().endsWith(".zip"))
+            || "application/zip".equals(contentType) || "application/x-zip-compressed".equals(contentType);
+    }
+
+    private static String baseName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    // State of a single bulk request: parses run ahead while results are saved in submission order
+    private class Upload {
+        private final String username;
+        private final long start = System.nanoTime();
+        private final List<BulkIngestionResult.Item> items = new ArrayList<>();
+        private final Deque<Pending> pending = new ArrayDeque<>();
+        private final List<Pending> batch = new ArrayList<>();
+        private boolean truncated;
+        // Set once the request can't be read any further; nothing more is accepted
+        private boolean stopped;
+
+        Upload(String username) {
+            this.username = username;
+        }
+
+        // Returns false, and marks the upload truncated, once the file limit is reached
+        private boolean accept() {
+            if (stopped) {
+                return false;
+            }
+            if (truncated || items.size() >= maxFiles) {
+                truncated = true;
+                return false;
+            }
+            return true;
+        }
+
+        boolean reject(String filename, String error) {
+            if (!accept()) {
+                return false;
+            }
+            BulkIngestionResult.Item item = new BulkIngestionResult.Item(filename);
+            item.failed(error);
+            items.add(item);
+            return true;
+        }
+
+        // Records why reading stopped; files already handed to the workers are still finished
+        void stop(String filename, String error) {
+            reject(filename, error);
+            stopped = true;
+        }
+
+        // Reads one document (without closing the stream) and hands it to the worker pool
+        boolean add(String filename, long size, String contentType, InputStream in) {
+            if (!accept()) {
+                return false;
+            }
+            BulkIngestionResult.Item item = new BulkIngestionResult.Item(filename);
+            items.add(item);
+            if (size > maxFileBytes) {
+                item.failed("File exceeds " + maxFileBytes + " bytes");
+                return true;
+            }
+
+            if (!acquirePermit()) {
+                item.failed("Bulk upload interrupted");
+                stopped = true;
+                return false;
+            }
+            DocumentContent document;
+            try {
+                document = DocumentContent.read(new BoundedInputStream(in, maxFileBytes), size, filename, contentType);
+            } catch (FileTooLargeException e) {
+                inFlight.release();
+                item.failed(e.getMessage());
+                return true;
+            } catch (IOException | RuntimeException e) {
+                // The stream is broken from here on, so later files can't be read either
+                inFlight.release();
+                logger.warn("Stopped reading bulk upload for {} at {}: {}", username, filename, e.getMessage());
+                item.failed("File could not be read: " + e.getMessage());
+                stopped = true;
+                return false;
+            }
+            if (document.getSize() == 0) {
+                inFlight.release();
+                item.failed("File cannot be empty");
+                return true;
+            }
+
+            CompletableFuture<PreparedResume> future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ingestionService.prepare(document, username);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, workers).whenComplete((prepared, error) -> inFlight.release());
+            pending.add(new Pending(item, future));
+            drain(false);
+            return true;
+        }
+
+        BulkIngestionResult finish() {
+            drain(true);
+            save();
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            BulkIngestionResult result = new BulkIngestionResult(items, truncated, elapsed);
+            logger.info("Bulk upload for {}: {} saved, {} failed in {} ms",
+                username, result.getSaved(), result.getFailed(), elapsed);
+            return result;
+        }
+
+        private boolean acquirePermit() {
+            try {
+                inFlight.acquire();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        // Moves finished parses into the current batch, optionally waiting for all of them
+        private void drain(boolean waitForAll) {
+            while (!pending.isEmpty() && (waitForAll || pending.peek().future.isDone())) {
+                Pending next = pending.poll();
+                try {
+                    next.prepared = next.future.join();
+                    batch.add(next);
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    next.item.failed(cause.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    save();
+                }
+            }
+        }
+
+        private void save() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<ResumeDTO> dtos = batch.stream().map(entry -> entry.prepared.getParsedData()).toList();
+            try {
+                List<Resume> saved = resumeService.saveParsedResumes(dtos, username);
+                for (int i = 0; i < batch.size(); i++) {
+                    Pending entry = batch.get(i);
+                    entry.item.saved(entry.prepared.getS3Key(), saved.get(i).getId());
+                }
+            } catch (RuntimeException e) {
+                // Retry one by one so a single bad row doesn't fail the whole batch
+                logger.warn("Batch save of {} resumes failed, saving individually: {}", batch.size(), e.getMessage());
+                for (Pending entry : batch) {
+                    try {
+                        Resume saved = resumeService.saveParsedResume(entry.prepared.getParsedData(), username);
+                        entry.item.saved(entry.prepared.getS3Key(), saved.getId());
+                    } catch (RuntimeException single) {
+                        ingestionService.discard(entry.prepared);
+                        entry.item.failed("Failed to save resume: " + single.getMessage());
+                    }
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private static class Pending {
+        private final BulkIngestionResult.Item item;
+        private final CompletableFuture<PreparedResume> future;
+        private PreparedResume prepared;
+
+        Pending(BulkIngestionResult.Item item, CompletableFuture<PreparedResume> future) {
+            this.item = item;
+            this.future = future;
+        }
+    }
+
+    private static class FileTooLargeException extends IOException {
+        FileTooLargeException(long limit) {
+            super("File exceeds " + limit + " bytes");
+        }
+    }
+
+    // Caps a single document, so archive entries that lie about their size can't exhaust the heap
+    private static class BoundedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) throws FileTooLargeException {
+            count += read;
+            if (count > limit) {
+                throw new FileTooLargeException(limit);
+            }
+        }
+
+        @Override
+        public void close() {
+            // The underlying stream belongs to the caller
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,163 @@
+package com.resumeanalyzer.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.repository.ResumeRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes resumes to a stream as NDJSON or CSV. Rows are read in keyset chunks
+ * inside one read-only transaction and detached after each chunk, so memory
+ * use does not grow with the size of the export.
+ */
+@Service
+public class ResumeExportService {
+    private static final Logger logger = LoggerFactory.getLogger(ResumeExportService.class);
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    private static final String[] CSV_COLUMNS = {
+        "id", "username", "name", "email", "phone", "skills", "education", "projects", "summary"
+    };
+
+    private final ResumeRepository resumeRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ResumeExportService(ResumeRepository resumeRepository,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               @Value("${resume.export.chunk-size:500}") int chunkSize) {
+        this.resumeRepository = resumeRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Writes every resume matching the filters, ordered by id. Null filters
+     * are ignored; the id range is inclusive. Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, String username, Long fromId, Long toId, OutputStream out) throws IOException {
+        long afterId = fromId == null ? 0 : fromId - 1;
+        long lastId = toId == null ? Long.MAX_VALUE : toId;
+        long rows = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        json.setRootValueSeparator(new SerializedString("\n"));
+        if (format == Format.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write("\r\n");
+        }
+
+        while (true) {
+            List<Resume> chunk = resumeRepository.findExportChunk(username, afterId, lastId, Limit.of(chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            resumeRepository.fetchCollections(chunk);
+            for (Resume resume : chunk) {
+                if (format == Format.CSV) {
+                    writeCsv(writer, resume);
+                } else {
+                    json.writeObject(resume);
+                }
+            }
+            rows += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getId();
+
+            // Push the chunk to the client and let the entities go
+            json.flush();
+            writer.flush();
+            entityManager.clear();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        if (format == Format.NDJSON && rows > 0) {
+            json.flush();
+            writer.write('\n');
+        }
+        writer.flush();
+        logger.info("Exported {} resumes as {}", rows, format);
+        return rows;
+    }
+
+    private static void writeCsv(Writer writer, Resume resume) throws IOException {
+        writer.write(String.valueOf(resume.getId()));
+        for (String value : new String[] {
+                resume.getUsername(), resume.getName(), resume.getEmail(), resume.getPhone(),
+                join(resume.getSkills()), join(resume.getEducation()), join(resume.getProjects()),
+                resume.getSummary()}) {
+            writer.write(',');
+            writeCsvField(writer, value);
+        }
+        writer.write("\r\n");
+    }
+
+    private static String join(List<String> values) {
+        return values == null ? null : String.join("; ", values);
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks, doubling inner quotes
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
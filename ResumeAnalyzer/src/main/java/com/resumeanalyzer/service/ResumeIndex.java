@@ -0,0 +1,39 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+
+/**
+ * An in-memory index derived from the stored resumes. ResumeService keeps every
+ * index in step with saves and deletes, and {@link ResumeIndexBootstrap} fills
+ * them from the database at startup.
+ */
+public interface ResumeIndex {
+
+    // Called before a new resume is first saved, so the index can fill in derived columns
+    default void prepare(Resume resume) {
+    }
+
+    // Adds or replaces the resume; its element collections are initialized
+    void index(Resume resume);
+
+    void remove(Long resumeId);
+
+    void clear();
+
+    /**
+     * Starts an empty copy of the index for a full rebuild. Queries keep being
+     * answered from the current data until {@link Rebuild#publish()} swaps the
+     * copy in.
+     */
+    Rebuild startRebuild();
+
+    // Writes to a copy under construction; only the rebuilding thread touches it until it is published
+    interface Rebuild {
+
+        void index(Resume resume);
+
+        void remove(Long resumeId);
+
+        void publish();
+    }
+}
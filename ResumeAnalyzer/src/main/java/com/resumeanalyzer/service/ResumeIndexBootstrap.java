@@ -0,0 +1,134 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.repository.ResumeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rebuilds every {@link ResumeIndex} from the database. Resumes are read in
+ * keyset chunks, each in its own read-only transaction, into empty copies of
+ * the indexes. Each copy is swapped in once it is complete, so queries keep
+ * being answered from the old data until then. Live saves and deletes go
+ * through {@link #index} and {@link #remove}, which also apply them to the
+ * copies. A resume changed that way is then skipped by the chunks, so an
+ * older read of it can't bring back a deleted row or stale values.
+ */
+@Service
+public class ResumeIndexBootstrap {
+    private static final Logger logger = LoggerFactory.getLogger(ResumeIndexBootstrap.class);
+
+    private final ResumeRepository resumeRepository;
+    private final List<ResumeIndex> indexes;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rebuildOnStartup;
+    private final int chunkSize;
+
+    // Guards the copies of a rebuild in progress; both null when none is running
+    private final Object rebuildLock = new Object();
+    private List<ResumeIndex.Rebuild> copies;
+    private Set<Long> changedDuringRebuild;
+
+    public ResumeIndexBootstrap(ResumeRepository resumeRepository,
+                                List<ResumeIndex> indexes,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${resume.index.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                                @Value("${resume.index.chunk-size:500}") int chunkSize) {
+        this.resumeRepository = resumeRepository;
+        this.indexes = indexes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    // Adds or replaces a committed resume in every index, and in the copies of a running rebuild.
+    // Both happen under the lock, so a publish can't slip in between and drop the change.
+    public void index(Resume resume) {
+        synchronized (rebuildLock) {
+            indexes.forEach(index -> index.index(resume));
+            if (copies != null) {
+                changedDuringRebuild.add(resume.getId());
+                copies.forEach(copy -> copy.index(resume));
+            }
+        }
+    }
+
+    public void remove(Long resumeId) {
+        synchronized (rebuildLock) {
+            indexes.forEach(index -> index.remove(resumeId));
+            if (copies != null) {
+                changedDuringRebuild.add(resumeId);
+                copies.forEach(copy -> copy.remove(resumeId));
+            }
+        }
+    }
+
+    public synchronized long rebuild() {
+        long start = System.currentTimeMillis();
+        List<ResumeIndex.Rebuild> rebuilds = indexes.stream().map(ResumeIndex::startRebuild).toList();
+        synchronized (rebuildLock) {
+            copies = rebuilds;
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        long count = 0;
+        try {
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                List<Resume> chunk = transactionTemplate.execute(status -> {
+                    List<Resume> resumes = resumeRepository.findExportChunk(null, from, Long.MAX_VALUE, Limit.of(chunkSize));
+                    resumeRepository.fetchCollections(resumes);
+                    synchronized (rebuildLock) {
+                        for (Resume resume : resumes) {
+                            if (!changedDuringRebuild.contains(resume.getId())) {
+                                rebuilds.forEach(copy -> copy.index(resume));
+                            }
+                        }
+                    }
+                    return resumes;
+                });
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+                count += chunk.size();
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+
+            synchronized (rebuildLock) {
+                rebuilds.forEach(ResumeIndex.Rebuild::publish);
+                copies = null;
+                changedDuringRebuild = null;
+            }
+        } finally {
+            // On failure the copies are dropped and the old data stays in place
+            synchronized (rebuildLock) {
+                copies = null;
+                changedDuringRebuild = null;
+            }
+        }
+
+        logger.info("Indexed {} resumes into {} indexes in {} ms", count, indexes.size(),
+                System.currentTimeMillis() - start);
+        return count;
+    }
+}
@@ -0,0 +1,266 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.DocumentContent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resume ingestion: the S3 upload and the parse of a document run concurrently
+ * and are joined before the database save. Uploads can also be queued, in which
+ * case the request thread only hands over the raw bytes, the work runs on a
+ * bounded worker pool and callers poll the job for progress. Queued jobs and
+ * their bytes are held in memory only, so uploads that were accepted but not
+ * yet saved are lost if the application stops.
+ */
+@Service
+public class ResumeIngestionService {
+    private static final Logger logger = LoggerFactory.getLogger(ResumeIngestionService.class);
+
+    private final ResumeService resumeService;
+    private final ResumeParserService resumeParserService;
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor storageWorkers;
+    private final Duration jobRetention;
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalProcessingMillis = new AtomicLong();
+    private volatile Instant lastSweep = Instant.now();
+
+    public ResumeIngestionService(ResumeService resumeService,
+                                  ResumeParserService resumeParserService,
+                                  @Value("${resume.ingestion.threads:0}") int threads,
+                                  @Value("${resume.ingestion.queue-capacity:100}") int queueCapacity,
+                                  @Value("${resume.ingestion.storage-threads:8}") int storageThreads,
+                                  @Value("${resume.ingestion.job-retention-minutes:60}") long jobRetentionMinutes) {
+        this.resumeService = resumeService;
+        this.resumeParserService = resumeParserService;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreads("resume-ingest-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        // Uploads are I/O bound; when every storage thread is busy the caller stores the file itself
+        this.storageWorkers = new ThreadPoolExecutor(storageThreads, storageThreads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreads("resume-store-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Stores and parses the document concurrently, then saves the parsed resume.
+     * When parsing or saving fails the stored object is deleted again; when
+     * storage fails the parse is abandoned.
+     */
+    public IngestionResult ingest(DocumentContent document, String username) throws IOException {
+        return ingest(document, username, () -> { });
+    }
+
+    private IngestionResult ingest(DocumentContent document, String username, Runnable beforeSave) throws IOException {
+        long start = System.nanoTime();
+        PreparedResume prepared = prepare(document, username);
+
+        beforeSave.run();
+        long saveStart = System.nanoTime();
+        Resume savedResume;
+        try {
+            savedResume = resumeService.saveParsedResume(prepared.getParsedData(), username);
+        } catch (RuntimeException e) {
+            discard(prepared);
+            throw e;
+        }
+        long end = System.nanoTime();
+
+        Map<String, Long> timings = new LinkedHashMap<>(prepared.getTimings());
+        timings.put("saveMillis", TimeUnit.NANOSECONDS.toMillis(end - saveStart));
+        timings.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(end - start));
+        return new IngestionResult(prepared.getS3Key(), savedResume, timings);
+    }
+
+    /**
+     * Stores and parses the document concurrently without saving it. If the
+     * parse fails the stored object is deleted; if storage fails the parse is
+     * abandoned. Callers that fail to save the result must {@link #discard} it.
+     */
+    public PreparedResume prepare(DocumentContent document, String username) throws IOException {
+        AtomicLong storageNanos = new AtomicLong();
+        CompletableFuture<String> storage = CompletableFuture.supplyAsync(() -> {
+            long stageStart = System.nanoTime();
+            try {
+                return resumeService.uploadDocument(document, username);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                storageNanos.set(System.nanoTime() - stageStart);
+            }
+        }, storageWorkers);
+
+        long parseStart = System.nanoTime();
+        ResumeDTO parsedData;
+        try {
+            // The parser checks the storage outcome as it goes and gives up once the upload has failed
+            parsedData = resumeParserService.parseResume(document, storage::isCompletedExceptionally);
+        } catch (IOException | RuntimeException e) {
+            if (storage.isCompletedExceptionally()) {
+                throw storageFailure(storage.exceptionNow());
+            }
+            storage.thenAccept(this::deleteQuietly);
+            throw e;
+        }
+        long parseNanos = System.nanoTime() - parseStart;
+
+        String s3Key;
+        try {
+            s3Key = storage.join();
+        } catch (CompletionException e) {
+            throw storageFailure(e.getCause());
+        }
+
+        Map<String, Long> timings = new LinkedHashMap<>();
+        timings.put("storageMillis", TimeUnit.NANOSECONDS.toMillis(storageNanos.get()));
+        timings.put("parseMillis", TimeUnit.NANOSECONDS.toMillis(parseNanos));
+        return new PreparedResume(document.getFilename(), s3Key, parsedData, timings);
+    }
+
+    // Removes the stored object of a prepared resume that could not be saved
+    public void discard(PreparedResume prepared) {
+        deleteQuietly(prepared.getS3Key());
+    }
+
+    private static IOException storageFailure(Throwable cause) {
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        return new IOException("Failed to upload to S3: " + cause.getMessage(), cause);
+    }
+
+    private void deleteQuietly(String s3Key) {
+        try {
+            resumeService.deleteDocument(s3Key);
+            logger.info("Deleted stored object {} after failed ingestion", s3Key);
+        } catch (IOException e) {
+            logger.warn("Failed to delete orphaned object {}: {}", s3Key, e.getMessage());
+        }
+    }
+
+    /**
+     * Queues the document for processing.
+     *
+     * @throws RejectedExecutionException when the queue is full
+     */
+    public IngestionJob submit(DocumentContent document, String username) {
+        sweepFinishedJobs();
+
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), username, document.getFilename());
+        jobs.put(job.getJobId(), job);
+        try {
+            workers.execute(() -> process(job, document));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            rejected.incrementAndGet();
+            throw e;
+        }
+        submitted.incrementAndGet();
+        return job;
+    }
+
+    // Jobs are visible to the user who submitted them and to admins
+    public Optional<IngestionJob> getJob(String jobId, String username, boolean isAdmin) {
+        sweepFinishedJobs();
+        return Optional.ofNullable(jobs.get(jobId))
+            .filter(job -> isAdmin || job.getUsername().equals(username));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", workers.getPoolSize());
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("queued", workers.getQueue().size());
+        stats.put("queueRemainingCapacity", workers.getQueue().remainingCapacity());
+        stats.put("activeStorageUploads", storageWorkers.getActiveCount());
+        stats.put("submitted", submitted.get());
+        stats.put("rejected", rejected.get());
+        stats.put("completed", completed.get());
+        stats.put("failed", failed.get());
+        long finished = completed.get() + failed.get();
+        stats.put("averageProcessingMillis", finished == 0 ? 0 : totalProcessingMillis.get() / finished);
+        stats.put("trackedJobs", jobs.size());
+        return stats;
+    }
+
+    private void process(IngestionJob job, DocumentContent document) {
+        job.start();
+        long start = System.nanoTime();
+        try {
+            job.advance(IngestionJob.Status.PROCESSING);
+            IngestionResult result = ingest(document, job.getUsername(),
+                () -> job.advance(IngestionJob.Status.SAVING));
+
+            job.complete(result);
+            completed.incrementAndGet();
+            logger.info("Ingestion job {} saved resume {}", job.getJobId(), result.getResume().getId());
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            failed.incrementAndGet();
+            logger.error("Ingestion job {} failed", job.getJobId(), e);
+        } finally {
+            totalProcessingMillis.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    // Finished jobs are kept around long enough for clients to pick up the result
+    private void sweepFinishedJobs() {
+        Instant now = Instant.now();
+        if (Duration.between(lastSweep, now).toMinutes() < 1) {
+            return;
+        }
+        lastSweep = now;
+        Instant cutoff = now.minus(jobRetention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        long unfinished = jobs.values().stream().filter(job -> !job.isFinished()).count();
+        if (unfinished > 0) {
+            logger.warn("Shutting down with {} ingestion jobs not yet saved; their uploads are lost", unfinished);
+        }
+        workers.shutdown();
+        storageWorkers.shutdown();
+    }
+}
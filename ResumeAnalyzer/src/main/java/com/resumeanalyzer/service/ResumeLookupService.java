@@ -0,0 +1,65 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.NameMatch;
+import com.resumeanalyzer.dto.ResumeSummary;
+import com.resumeanalyzer.util.TrigramIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Typo-tolerant name and email lookup: match in memory, then load summaries of the winners only
+@Service
+public class ResumeLookupService {
+
+    private final ResumeNameIndex nameIndex;
+    private final ResumeService resumeService;
+    private final int defaultResults;
+    private final int maxResults;
+
+    public ResumeLookupService(ResumeNameIndex nameIndex,
+                               ResumeService resumeService,
+                               @Value("${resume.lookup.default-results:10}") int defaultResults,
+                               @Value("${resume.lookup.max-results:100}") int maxResults) {
+        this.nameIndex = nameIndex;
+        this.resumeService = resumeService;
+        this.defaultResults = defaultResults;
+        this.maxResults = maxResults;
+    }
+
+    public Map<String, Object> lookup(String query, String owner, Integer size) {
+        if (query == null || TrigramIndex.normalize(query).isEmpty()) {
+            throw new IllegalArgumentException("Lookup query must contain letters or digits");
+        }
+        int limit = size == null || size <= 0 ? defaultResults : Math.min(size, maxResults);
+
+        long start = System.nanoTime();
+        TrigramIndex.Result found = nameIndex.lookup(query, owner, limit);
+        List<TrigramIndex.Match> matches = found.matches();
+        long tookMicros = (System.nanoTime() - start) / 1000;
+
+        Map<Long, ResumeSummary> summaries = resumeService
+            .getResumeSummaries(matches.stream().map(TrigramIndex.Match::id).toList())
+            .stream()
+            .collect(Collectors.toMap(ResumeSummary::id, Function.identity()));
+        List<NameMatch> items = matches.stream()
+            .filter(match -> summaries.containsKey(match.id()))
+            .map(match -> {
+                ResumeSummary summary = summaries.get(match.id());
+                return new NameMatch(summary.id(), summary.name(), summary.email(), match.value(),
+                    match.distance(), match.overlap());
+            })
+            .toList();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("tookMicros", tookMicros);
+        result.put("items", items);
+        // Very common names can exceed the per-search bounds; a closer match may then be missing
+        result.put("truncated", found.truncated());
+        return result;
+    }
+}
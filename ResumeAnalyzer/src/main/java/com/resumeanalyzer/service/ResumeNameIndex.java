@@ -0,0 +1,108 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.LatencyHistogram;
+import com.resumeanalyzer.util.TrigramIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Trigram index over candidate names and emails, for lookups that survive typos
+@Service
+public class ResumeNameIndex implements ResumeIndex {
+
+    private volatile Names names = new Names();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final double threshold;
+
+    private static final class Names {
+        private final TrigramIndex index = new TrigramIndex();
+        private final Map<Long, String> owners = new ConcurrentHashMap<>();
+
+        void index(Resume resume) {
+            List<String> values = new ArrayList<>();
+            values.add(resume.getName());
+            if (resume.getEmail() != null) {
+                values.add(resume.getEmail());
+                // The local part on its own, so "jon.smith" is close to "john.smith@example.com"
+                values.add(resume.getEmail().replaceFirst("@.*$", ""));
+            }
+            if (resume.getUsername() != null) {
+                owners.put(resume.getId(), resume.getUsername());
+            }
+            index.put(resume.getId(), values.stream().filter(value -> value != null).toList());
+        }
+
+        void remove(Long resumeId) {
+            index.remove(resumeId);
+            owners.remove(resumeId);
+        }
+    }
+
+    public ResumeNameIndex(@Value("${resume.lookup.threshold:0.3}") double threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void index(Resume resume) {
+        names.index(resume);
+    }
+
+    @Override
+    public void remove(Long resumeId) {
+        names.remove(resumeId);
+    }
+
+    @Override
+    public void clear() {
+        names = new Names();
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        Names fresh = new Names();
+        return new Rebuild() {
+            @Override
+            public void index(Resume resume) {
+                fresh.index(resume);
+            }
+
+            @Override
+            public void remove(Long resumeId) {
+                fresh.remove(resumeId);
+            }
+
+            @Override
+            public void publish() {
+                names = fresh;
+            }
+        };
+    }
+
+    // Closest names and emails first; with an owner, only that user's resumes
+    public TrigramIndex.Result lookup(String query, String owner, int limit) {
+        Names current = names;
+        long start = System.nanoTime();
+        try {
+            return current.index.search(query, threshold, limit,
+                owner == null ? id -> true : id -> owner.equals(current.owners.get(id)));
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Names current = names;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("documents", current.index.size());
+        stats.put("trigrams", current.index.trigramCount());
+        stats.put("threshold", threshold);
+        stats.put("lookups", latency.snapshot());
+        return stats;
+    }
+}
@@ -0,0 +1,215 @@
+package com.resumeanalyzer.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.dto.ResumeDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Parse results keyed by the SHA-256 of the uploaded bytes. A bounded LRU map
+ * sits in front of an optional directory of JSON files. Entries belong to a
+ * generation (parser version, skill dictionary and limits); when the
+ * generation changes, everything cached for the old one is dropped.
+ */
+@Service
+public class ResumeParseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResumeParseCache.class);
+
+    private final int maxEntries;
+    private final Path diskDirectory;
+    // The disk tier keeps the text signature that API responses leave out
+    private final ObjectMapper objectMapper = new ObjectMapper().addMixIn(ResumeDTO.class, CachedResumeDTO.class);
+    private final Map<String, ResumeDTO> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile String generation = "";
+
+    public ResumeParseCache(@Value("${resume.parser.cache.max-entries:1000}") int maxEntries,
+                            @Value("${resume.parser.cache.dir:}") String diskDirectory) {
+        this.maxEntries = maxEntries;
+        this.diskDirectory = diskDirectory.isBlank() ? null : Paths.get(diskDirectory);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResumeDTO> eldest) {
+                if (size() > ResumeParseCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<ResumeDTO> get(String contentHash, String generation) {
+        if (maxEntries <= 0) {
+            return Optional.empty();
+        }
+        switchGeneration(generation);
+
+        ResumeDTO cached;
+        synchronized (entries) {
+            cached = entries.get(contentHash);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Optional.of(copy(cached));
+        }
+
+        cached = readFromDisk(contentHash, generation);
+        if (cached != null) {
+            diskHits.incrementAndGet();
+            synchronized (entries) {
+                entries.put(contentHash, cached);
+            }
+            return Optional.of(copy(cached));
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(String contentHash, String generation, ResumeDTO result) {
+        if (maxEntries <= 0 || !generation.equals(this.generation)) {
+            return;
+        }
+        ResumeDTO stored = copy(result);
+        synchronized (entries) {
+            entries.put(contentHash, stored);
+        }
+        writeToDisk(contentHash, generation, stored);
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long lookups = hits.get() + diskHits.get() + misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hits.get());
+        stats.put("diskHits", diskHits.get());
+        stats.put("misses", misses.get());
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) (hits.get() + diskHits.get()) / lookups);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("generation", generation);
+        stats.put("diskTier", diskDirectory != null);
+        return stats;
+    }
+
+    private void switchGeneration(String next) {
+        if (next.equals(generation)) {
+            return;
+        }
+        synchronized (this) {
+            if (next.equals(generation)) {
+                return;
+            }
+            boolean firstUse = generation.isEmpty();
+            clear();
+            generation = next;
+            if (!firstUse) {
+                invalidations.incrementAndGet();
+                logger.info("Parser generation changed to {}, parse cache invalidated", next);
+            }
+            purgeOtherGenerations(next);
+        }
+    }
+
+    private ResumeDTO readFromDisk(String contentHash, String generation) {
+        if (diskDirectory == null) {
+            return null;
+        }
+        Path file = diskDirectory.resolve(generation).resolve(contentHash + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), ResumeDTO.class);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable parse cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String contentHash, String generation, ResumeDTO result) {
+        if (diskDirectory == null) {
+            return;
+        }
+        try {
+            Path directory = Files.createDirectories(diskDirectory.resolve(generation));
+            Path temp = Files.createTempFile(directory, contentHash, ".tmp");
+            objectMapper.writeValue(temp.toFile(), result);
+            Files.move(temp, directory.resolve(contentHash + ".json"), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to write parse cache entry {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    // Entries of other generations can never be hit again
+    private void purgeOtherGenerations(String current) {
+        if (diskDirectory == null || !Files.isDirectory(diskDirectory)) {
+            return;
+        }
+        try (Stream<Path> generations = Files.list(diskDirectory)) {
+            for (Path stale : generations.filter(path -> !path.getFileName().toString().equals(current)).toList()) {
+                try (Stream<Path> files = Files.walk(stale)) {
+                    for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to purge stale parse cache entries: {}", e.getMessage());
+        }
+    }
+
+    private abstract static class CachedResumeDTO {
+        @JsonIgnore(false)
+        @JsonProperty
+        private byte[] textSignature;
+    }
+
+    // Callers get their own copy so they can't change what is cached
+    private static ResumeDTO copy(ResumeDTO source) {
+        ResumeDTO copy = new ResumeDTO();
+        copy.setName(source.getName());
+        copy.setEmail(source.getEmail());
+        copy.setPhone(source.getPhone());
+        copy.setSkills(source.getSkills() == null ? null : new ArrayList<>(source.getSkills()));
+        copy.setEducation(source.getEducation() == null ? null : new ArrayList<>(source.getEducation()));
+        copy.setProjects(source.getProjects() == null ? null : new ArrayList<>(source.getProjects()));
+        copy.setSummary(source.getSummary());
+        copy.setExperience(source.getExperience());
+        copy.setTextSignature(source.getTextSignature() == null ? null : source.getTextSignature().clone());
+        return copy;
+    }
+}
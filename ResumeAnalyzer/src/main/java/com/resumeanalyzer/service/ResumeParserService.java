@@ -1,9 +1,14 @@
 package com.resumeanalyzer.service;
 
 import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.util.DocumentContent;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.util.function.BooleanSupplier;
 
 public interface ResumeParserService {
     ResumeDTO parseResume(MultipartFile file) throws IOException;
+    ResumeDTO parseResume(DocumentContent document) throws IOException;
+    // Stops early once the check returns true, e.g. when the result is no longer needed
+    ResumeDTO parseResume(DocumentContent document, BooleanSupplier cancelled) throws IOException;
 }
\ No newline at end of file
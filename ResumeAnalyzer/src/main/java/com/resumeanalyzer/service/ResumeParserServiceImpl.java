@@ -1,15 +1,24 @@
 package com.resumeanalyzer.service;
 
 import com.resumeanalyzer.dto.ResumeDTO;
-import org.apache.tika.Tika;
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.MinHash;
+import com.resumeanalyzer.util.ResumeSection;
+import com.resumeanalyzer.util.ResumeTextCollector;
+import com.resumeanalyzer.util.SegmentedResume;
+import com.resumeanalyzer.util.SkillMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,94 +26,150 @@ import java.util.regex.Pattern;
 public class ResumeParserServiceImpl implements ResumeParserService {
     private static final Logger logger = LoggerFactory.getLogger(ResumeParserServiceImpl.class);
     
-    private final Tika tika = new Tika();
-    private static final List<String> TECHNICAL_SKILLS = List.of(
-        "Java", "Python", "SQL", "Spring Boot", "JavaScript", 
-        "React", "AWS", "Docker", "Kubernetes", "Machine Learning",
-        "C++", "HTML", "CSS", "RESTful APIs", "Git", "Maven", "JPA", "Hibernate",
-        "Microservices", "Spring Cloud", "Kafka", "MongoDB", "PostgreSQL", "Redis"
-    ); // Expanded list for better skill detection
+    // Bump whenever extraction changes what a parse returns, so cached results are dropped
+    static final String PARSER_VERSION = "p3";
+
+    private final DocumentTextExtractor textExtractor;
+    private final SkillDictionaryService skillDictionaryService;
+    private final ResumeParseCache parseCache;
+    private final long maxChars;
+    private final int maxPages;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+        "\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,6}\\b"
+    );
+    private static final Pattern PHONE_PATTERN = Pattern.compile(
+        "(\\+\\d{1,3}[-.\\s]?)?(\\d{3}[-.\\s]?){2}\\d{4}" // More flexible phone number regex
+    );
+    // Capitalized words, potentially two or three words long, and not containing numbers or
+    // special characters (except hyphen for names like "Mary-Ann")
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[A-Z][a-z]+(?:[- ][A-Z][a-z]+){0,2}$");
+    private static final Pattern EDUCATION_KEYWORDS = Pattern.compile(
+        "\\b(university|college|institute|school|degree|bachelor|master|phd|diploma|graduated|attended)\\b",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    public ResumeParserServiceImpl(DocumentTextExtractor textExtractor,
+                                   SkillDictionaryService skillDictionaryService,
+                                   ResumeParseCache parseCache,
+                                   @Value("${resume.parser.max-chars:200000}") long maxChars,
+                                   @Value("${resume.parser.max-pages:50}") int maxPages) {
+        this.textExtractor = textExtractor;
+        this.skillDictionaryService = skillDictionaryService;
+        this.parseCache = parseCache;
+        this.maxChars = maxChars;
+        this.maxPages = maxPages;
+    }
 
     @Override
     public ResumeDTO parseResume(MultipartFile file) throws IOException {
+        return parseResume(DocumentContent.from(file));
+    }
+
+    @Override
+    public ResumeDTO parseResume(DocumentContent document) throws IOException {
+        return parseResume(document, () -> false);
+    }
+
+    @Override
+    public ResumeDTO parseResume(DocumentContent document, BooleanSupplier cancelled) throws IOException {
+        SkillMatcher matcher = skillDictionaryService.getMatcher();
+        String generation = String.join("-", PARSER_VERSION, matcher.getVersion(),
+            String.valueOf(maxChars), String.valueOf(maxPages));
+
+        // Identical uploads skip extraction entirely
+        Optional<ResumeDTO> cached = parseCache.get(document.getSha256(), generation);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ResumeDTO dto = parse(document, matcher, cancelled);
+        parseCache.put(document.getSha256(), generation, dto);
+        return dto;
+    }
+
+    private ResumeDTO parse(DocumentContent document, SkillMatcher matcher, BooleanSupplier cancelled) throws IOException {
         try {
-            String text = extractText(file);
-            ResumeDTO dto = new ResumeDTO();
-            
-            extractContactInfo(text, dto);
-            extractSkills(text, dto);
-            extractEducation(text, dto);
-            extractProjects(text, dto);
-            extractSummary(text, dto);
-            
-            return dto;
+            // Text is streamed into the segmenter and skill scan as it is extracted, within fixed budgets
+            ResumeTextCollector collector = new ResumeTextCollector(matcher, maxChars, maxPages, cancelled);
+            textExtractor.extract(document, collector);
+            return toDto(collector, cancelled, true);
         } catch (Exception e) {
             logger.error("Failed to parse resume", e);
             throw new IOException("Resume parsing failed: " + e.getMessage());
         }
     }
 
-    private String extractText(MultipartFile file) throws IOException {
+    // Plain text, e.g. a pasted job description, through the same segmenter and skill scan. Not cached.
+    public ResumeDTO parseText(String text, BooleanSupplier cancelled) throws IOException {
+        ResumeTextCollector collector = new ResumeTextCollector(skillDictionaryService.getMatcher(), maxChars, maxPages, cancelled);
         try {
-            String content = tika.parseToString(file.getInputStream());
-            if (content == null || content.trim().isEmpty()) {
-                throw new IOException("Empty or unreadable file content");
-            }
-            return content;
-        } catch (Exception e) {
-            throw new IOException("Text extraction failed: " + e.getMessage());
+            collector.append(text);
+        } catch (ResumeTextCollector.LimitReachedException e) {
+            // Over the character budget: the leading part is kept
         }
+        // Nothing is stored, so no duplicate signature is needed
+        return toDto(collector, cancelled, false);
     }
 
-    private void extractContactInfo(String text, ResumeDTO dto) {
-        // Email extraction
-        Matcher emailMatcher = Pattern.compile(
-            "\\b[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,6}\\b"
-        ).matcher(text);
+    private ResumeDTO toDto(ResumeTextCollector collector, BooleanSupplier cancelled, boolean withSignature) throws IOException {
+        SegmentedResume resume = collector.finishSections();
+        if (resume.getText().isBlank()) {
+            throw new IOException("Empty or unreadable file content");
+        }
+        ResumeDTO dto = new ResumeDTO();
+        
+        extractContactInfo(resume, dto, cancelled);
+        dto.setSkills(new ArrayList<>(collector.finishSkills()));
+        extractEducation(resume, dto);
+        extractProjects(resume, dto);
+        extractSummary(resume, dto);
+        if (withSignature) {
+            dto.setTextSignature(MinHash.toBytes(MinHash.signature(resume.getText())));
+        }
+        
+        return dto;
+    }
+
+    private void extractContactInfo(SegmentedResume resume, ResumeDTO dto, BooleanSupplier cancelled) {
+        // The contact patterns scan the whole text, so a cancelled parse must be able to stop them mid-match
+        CharSequence text = new CancellableText(resume.getText(), cancelled);
+
+        Matcher emailMatcher = EMAIL_PATTERN.matcher(text);
         if (emailMatcher.find()) {
             dto.setEmail(emailMatcher.group().trim());
         }
 
-        // Phone extraction
-        Matcher phoneMatcher = Pattern.compile(
-            "(\\+\\d{1,3}[-.\\s]?)?(\\d{3}[-.\\s]?){2}\\d{4}" // More flexible phone number regex
-        ).matcher(text);
+        Matcher phoneMatcher = PHONE_PATTERN.matcher(text);
         if (phoneMatcher.find()) {
             dto.setPhone(phoneMatcher.group().trim());
         }
 
-        // Improved name extraction: Look for common patterns at the beginning of the document
+        // Names sit in the header block above the first section heading.
         // This is still heuristic and might need more advanced NLP for perfect accuracy
-        String[] lines = text.split("\\r?\\n");
+        List<String> lines = resume.first(ResumeSection.Type.HEADER)
+            .map(ResumeSection::lines)
+            .orElse(List.of());
         for (String line : lines) {
-            String trimmedLine = line.trim();
-            if (trimmedLine.isEmpty()) continue;
-
-            // Pattern 1: Looks for capitalized words, potentially two or three words long, at the start of the line
-            // and not containing numbers or special characters (except hyphen for names like "Mary-Ann")
-            Pattern namePattern1 = Pattern.compile("^[A-Z][a-z]+(?:[- ][A-Z][a-z]+){0,2}$");
-            Matcher nameMatcher1 = namePattern1.matcher(trimmedLine);
-            if (nameMatcher1.matches() && trimmedLine.length() > 3 && trimmedLine.split(" ").length <= 3) {
-                dto.setName(trimmedLine);
+            if (NAME_PATTERN.matcher(line).matches() && line.length() > 3 && line.split(" ").length <= 3) {
+                dto.setName(line);
                 return;
             }
 
-            // Pattern 2: If the line contains "Name:"
-            if (trimmedLine.toLowerCase().startsWith("name:")) {
-                dto.setName(trimmedLine.substring(5).trim());
+            // If the line contains "Name:"
+            if (line.regionMatches(true, 0, "name:", 0, 5)) {
+                dto.setName(line.substring(5).trim());
                 return;
             }
             // Stop after checking the first few non-empty lines to avoid picking up section headers
-            if (lines.length > 5 && trimmedLine.length() > 30) break; // Heuristic to stop if it's likely not a name
+            if (lines.size() > 5 && line.length() > 30) break; // Heuristic to stop if it's likely not a name
         }
 
-        // Fallback if no specific name pattern is found
-        if (dto.getName() == null || dto.getName().isEmpty()) {
-            for (String line : lines) {
-                if (!line.trim().isEmpty()) {
-                    dto.setName(line.trim());
-                    break; // Take the first non-empty line as a last resort
-                }
+        // Fallback: take the first non-empty line as a last resort
+        for (ResumeSection section : resume.getSections()) {
+            List<String> sectionLines = section.lines();
+            if (!sectionLines.isEmpty()) {
+                dto.setName(sectionLines.get(0));
+                break;
             }
         }
         if (dto.getName() == null || dto.getName().isEmpty()) {
@@ -112,72 +177,99 @@ public class ResumeParserServiceImpl implements ResumeParserService {
         }
     }
 
-    private void extractSkills(String text, ResumeDTO dto) {
-        List<String> skills = new ArrayList<>();
-        String lowerCaseText = text.toLowerCase();
-        for (String skill : TECHNICAL_SKILLS) {
-            if (lowerCaseText.contains(skill.toLowerCase())) {
-                skills.add(skill);
-            }
-        }
-        dto.setSkills(skills);
-    }
-
-    private void extractEducation(String text, ResumeDTO dto) {
+    private void extractEducation(SegmentedResume resume, ResumeDTO dto) {
         List<String> education = new ArrayList<>();
-        // Improved regex to capture education section more broadly
-        Pattern eduPattern = Pattern.compile(
-            "(?i)(education|academic background|qualifications?|degrees?|certifications?)\\s*\\n(.*?)(?=\\n\\s*(?:work|experience|projects|skills|summary|achievements|publications|$))",
-            Pattern.DOTALL
-        );
-        
-        Matcher matcher = eduPattern.matcher(text);
-        if (matcher.find()) {
-            String educationSection = matcher.group(2);
-            String[] eduLines = educationSection.split("\\r?\\n");
-            for (String line : eduLines) {
-                String trimmedLine = line.trim();
-                if (!trimmedLine.isEmpty() && 
-                    trimmedLine.matches(".*\\b(university|college|institute|school|degree|bachelor|master|phd|diploma|graduated|attended)\\b.*")) {
-                    education.add(trimmedLine);
-                }
+        for (String line : resume.lines(ResumeSection.Type.EDUCATION)) {
+            if (EDUCATION_KEYWORDS.matcher(line).find()) {
+                education.add(line);
             }
         }
         dto.setEducation(education);
     }
 
-    private void extractProjects(String text, ResumeDTO dto) {
+    private void extractProjects(SegmentedResume resume, ResumeDTO dto) {
         List<String> projects = new ArrayList<>();
-        // Improved regex to capture projects section more broadly
-        Pattern projectPattern = Pattern.compile(
-            "(?i)(projects?|portfolio|key projects|personal projects)\\s*\\n(.*?)(?=\\n\\s*(?:skills|education|experience|summary|achievements|publications|$))",
-            Pattern.DOTALL
-        );
-        
-        Matcher matcher = projectPattern.matcher(text);
-        if (matcher.find()) {
-            String projectSection = matcher.group(2);
-            // Split by lines that look like new project titles or significant breaks
-            String[] projectEntries = projectSection.split("\\n(?=[A-Z][a-zA-Z0-9\\s,.-]*\\n)"); // Heuristic: new line followed by capitalized word
-            for (String entry : projectEntries) {
-                String trimmedEntry = entry.trim();
-                if (!trimmedEntry.isEmpty()) {
-                    projects.add(trimmedEntry);
+        // A new entry starts at every line that looks like a project title
+        for (ResumeSection section : resume.all(ResumeSection.Type.PROJECTS)) {
+            StringBuilder entry = new StringBuilder();
+            for (String line : section.lines()) {
+                if (entry.length() > 0 && isTitleLine(line)) {
+                    projects.add(entry.toString());
+                    entry.setLength(0);
+                }
+                if (entry.length() > 0) {
+                    entry.append('\n');
                 }
+                entry.append(line);
+            }
+            if (entry.length() > 0) {
+                projects.add(entry.toString());
             }
         }
         dto.setProjects(projects);
     }
 
-    private void extractSummary(String text, ResumeDTO dto) {
-        Pattern summaryPattern = Pattern.compile(
-            "(?i)(summary|about me|profile|objective|career objective)\\s*\\n(.*?)(?=\\n\\s*(?:skills|education|experience|projects|achievements|publications|$))",
-            Pattern.DOTALL
-        );
-        
-        Matcher matcher = summaryPattern.matcher(text);
-        if (matcher.find()) {
-            dto.setSummary(matcher.group(2).trim());
+    // Heuristic: capitalized line made only of words, digits and light punctuation
+    private static boolean isTitleLine(String line) {
+        char first = line.charAt(0);
+        if (first < 'A' || first > 'Z') {
+            return false;
+        }
+        for (int i = 1; i < line.length(); i++) {
+            char c = line.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || Character.isWhitespace(c) || c == ',' || c == '.' || c == '-';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void extractSummary(SegmentedResume resume, ResumeDTO dto) {
+        String summary = resume.all(ResumeSection.Type.SUMMARY).stream()
+            .map(section -> section.getBody().trim())
+            .filter(body -> !body.isEmpty())
+            .collect(Collectors.joining("\n"));
+        if (!summary.isEmpty()) {
+            dto.setSummary(summary);
+        }
+    }
+
+    // Regex engines only read their input through charAt, which makes this a safe place to stop a runaway match
+    private static class CancellableText implements CharSequence {
+        private static final int CHECK_INTERVAL = 4096;
+
+        private final CharSequence text;
+        private final BooleanSupplier cancelled;
+        private int reads;
+
+        CancellableText(CharSequence text, BooleanSupplier cancelled) {
+            this.text = text;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads % CHECK_INTERVAL == 0 && cancelled.getAsBoolean()) {
+                throw new ResumeTextCollector.CancelledException();
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new CancellableText(text.subSequence(start, end), cancelled);
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
         }
     }
 }
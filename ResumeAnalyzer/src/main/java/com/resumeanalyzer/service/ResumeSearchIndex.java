@@ -0,0 +1,109 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.FullTextIndex;
+import com.resumeanalyzer.util.LatencyHistogram;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Full-text index over every parsed field of the stored resumes
+@Service
+public class ResumeSearchIndex implements ResumeIndex {
+
+    private volatile Documents documents = new Documents();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private static final class Documents {
+        private final FullTextIndex index = new FullTextIndex();
+        private final Map<Long, String> owners = new ConcurrentHashMap<>();
+
+        void index(Resume resume) {
+            Map<FullTextIndex.Field, List<String>> fields = new EnumMap<>(FullTextIndex.Field.class);
+            fields.put(FullTextIndex.Field.NAME, values(resume.getName()));
+            fields.put(FullTextIndex.Field.EMAIL, values(resume.getEmail()));
+            fields.put(FullTextIndex.Field.SKILLS, values(resume.getSkills()));
+            fields.put(FullTextIndex.Field.SUMMARY, values(resume.getSummary()));
+            fields.put(FullTextIndex.Field.EDUCATION, values(resume.getEducation()));
+            fields.put(FullTextIndex.Field.PROJECTS, values(resume.getProjects()));
+            if (resume.getUsername() != null) {
+                owners.put(resume.getId(), resume.getUsername());
+            }
+            index.put(resume.getId(), fields);
+        }
+
+        void remove(Long resumeId) {
+            index.remove(resumeId);
+            owners.remove(resumeId);
+        }
+    }
+
+    @Override
+    public void index(Resume resume) {
+        documents.index(resume);
+    }
+
+    @Override
+    public void remove(Long resumeId) {
+        documents.remove(resumeId);
+    }
+
+    @Override
+    public void clear() {
+        documents = new Documents();
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        Documents fresh = new Documents();
+        return new Rebuild() {
+            @Override
+            public void index(Resume resume) {
+                fresh.index(resume);
+            }
+
+            @Override
+            public void remove(Long resumeId) {
+                fresh.remove(resumeId);
+            }
+
+            @Override
+            public void publish() {
+                documents = fresh;
+            }
+        };
+    }
+
+    // With an owner, other users' resumes are skipped before scoring, so they never take up the limit
+    public FullTextIndex.Result search(String query, String owner, int limit) {
+        Documents current = documents;
+        long start = System.nanoTime();
+        try {
+            return owner == null ? current.index.search(query, limit)
+                : current.index.search(query, limit, id -> owner.equals(current.owners.get(id)));
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Documents current = documents;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("documents", current.index.size());
+        stats.put("terms", current.index.termCount());
+        stats.put("searches", latency.snapshot());
+        return stats;
+    }
+
+    private static List<String> values(String value) {
+        return value == null ? List.of() : List.of(value);
+    }
+
+    private static List<String> values(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+}
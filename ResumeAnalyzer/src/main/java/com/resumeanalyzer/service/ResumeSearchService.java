@@ -0,0 +1,63 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeView;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.util.FullTextIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Ranks with the in-memory index, then loads only the winning rows
+@Service
+public class ResumeSearchService {
+
+    private final ResumeSearchIndex searchIndex;
+    private final ResumeRepository resumeRepository;
+    private final int defaultResults;
+    private final int maxResults;
+
+    public ResumeSearchService(ResumeSearchIndex searchIndex,
+                               ResumeRepository resumeRepository,
+                               @Value("${resume.search.default-results:50}") int defaultResults,
+                               @Value("${resume.search.max-results:200}") int maxResults) {
+        this.searchIndex = searchIndex;
+        this.resumeRepository = resumeRepository;
+        this.defaultResults = defaultResults;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Best matches first; summary searches only initialize skills, full searches
+     * load every collection. With an owner, only that user's resumes are ranked,
+     * and the rows are read with the username in the WHERE clause as well.
+     */
+    @Transactional(readOnly = true)
+    public List<Resume> search(String query, String owner, ResumeView view, Integer size) {
+        int limit = size == null || size <= 0 ? defaultResults : Math.min(size, maxResults);
+        List<FullTextIndex.Hit> hits = searchIndex.search(query, owner, limit).hits();
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (FullTextIndex.Hit hit : hits) {
+            rank.put(hit.id(), rank.size());
+        }
+        List<Resume> rows = owner == null ? resumeRepository.findAllById(rank.keySet())
+            : resumeRepository.findByUsernameAndIdIn(owner, rank.keySet());
+        List<Resume> results = rows.stream()
+            .sorted(Comparator.comparing(resume -> rank.get(resume.getId())))
+            .toList();
+        if (view == ResumeView.FULL) {
+            return resumeRepository.fetchCollections(results);
+        }
+        resumeRepository.fetchSkills(results.stream().map(Resume::getId).toList());
+        return results;
+    }
+}
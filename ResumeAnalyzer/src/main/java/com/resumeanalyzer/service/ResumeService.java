@@ -1,22 +1,40 @@
 package com.resumeanalyzer.service;
 
+import com.resumeanalyzer.dto.CursorPage;
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.dto.ResumeListItem;
+import com.resumeanalyzer.dto.ResumeSummary;
+import com.resumeanalyzer.dto.ResumeView;
 import com.resumeanalyzer.model.Resume;
 import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.util.CursorCodec;
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.IdBitmap;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 @Service
 public class ResumeService {
@@ -25,36 +43,71 @@ public class ResumeService {
     private final S3Client s3Client;
     private final String bucketName;
     private final ResumeRepository resumeRepository;
+    private final List<ResumeIndex> indexes;
+    private final ResumeIndexBootstrap indexBootstrap;
+
+    @Value("${resume.pagination.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${resume.pagination.max-size:200}")
+    private int maxPageSize = 200;
 
     public ResumeService(S3Client s3Client,
                        @Value("${aws.s3.bucket-name}") String bucketName,
-                       ResumeRepository resumeRepository) {
+                       ResumeRepository resumeRepository,
+                       List<ResumeIndex> indexes,
+                       ResumeIndexBootstrap indexBootstrap) {
         this.s3Client = s3Client;
         this.bucketName = bucketName;
         this.resumeRepository = resumeRepository;
+        this.indexes = indexes;
+        this.indexBootstrap = indexBootstrap;
     }
 
     public String uploadFile(MultipartFile file, String username) throws IOException {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("File cannot be empty");
         }
+        return uploadDocument(DocumentContent.from(file), username);
+    }
 
-        String fileKey = generateFileKey(username, file.getOriginalFilename());
-        Path tempFilePath = null; // Initialize to null
+    // Streams the in-memory bytes to S3 without a temp file or an extra copy
+    public String uploadDocument(DocumentContent document, String username) throws IOException {
+        if (document.getSize() == 0) {
+            throw new IllegalArgumentException("File cannot be empty");
+        }
 
+        String fileKey = generateFileKey(username, document.getFilename());
+        String contentType = document.getContentType() != null ? document.getContentType() : "application/octet-stream";
+        byte[] bytes = document.getBytes();
         try {
-            tempFilePath = saveToTempLocation(file);
-            uploadToS3(fileKey, tempFilePath);
+            s3Client.putObject(
+                PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .contentType(contentType)
+                    .checksumSHA256(document.getSha256Base64()) // S3 verifies the digest computed while reading
+                    .build(),
+                RequestBody.fromContentProvider(() -> new ByteArrayInputStream(bytes), bytes.length, contentType)
+            );
             return fileKey;
         } catch (S3Exception e) {
             logger.error("Failed to upload to S3: {}", e.getMessage(), e);
             throw new IOException("Failed to upload to S3: " + e.getMessage());
-        } finally {
-            try {
-                cleanupTempFile(tempFilePath);
-            } catch (IOException e) {
-                logger.warn("Failed to delete temporary file {}: {}", tempFilePath, e.getMessage());
-            }
+        }
+    }
+
+    public void deleteDocument(String fileKey) throws IOException {
+        try {
+            s3Client.deleteObject(
+                DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .build()
+            );
+        } catch (S3Exception e) {
+            logger.error("Failed to delete from S3: {}", e.getMessage(), e);
+            throw new IOException("Failed to delete from S3: " + e.getMessage());
         }
     }
 
@@ -67,36 +120,10 @@ public class ResumeService {
             sanitizedFilename);
     }
 
-    private Path saveToTempLocation(MultipartFile file) throws IOException {
-        // Create a unique temporary file name to avoid conflicts
-        Path tempPath = Files.createTempFile(
-            Paths.get(System.getProperty("java.io.tmpdir")), 
-            "upload-", 
-            file.getOriginalFilename()
-        );
-        file.transferTo(tempPath);
-        return tempPath;
-    }
-
-    private void uploadToS3(String fileKey, Path filePath) {
-        s3Client.putObject(
-            PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileKey)
-                .build(),
-            filePath
-        );
-    }
-
-    private void cleanupTempFile(Path filePath) throws IOException {
-        if (filePath != null && Files.exists(filePath)) {
-            Files.delete(filePath); // Use delete instead of deleteIfExists for clearer error if it fails
-        }
-    }
-
     public boolean deleteResumeById(Long id) {
         if (resumeRepository.existsById(id)) {
             resumeRepository.deleteById(id);
+            indexBootstrap.remove(id);
             return true;
         }
         return false;
@@ -106,19 +133,125 @@ public class ResumeService {
         return deleteResumeById(id);
     }
 
+    // Indexes are updated once the row is committed, so they never point at a rolled-back resume
     public Resume saveResume(Resume resume) {
-        return resumeRepository.save(resume);
+        Resume saved = resumeRepository.save(resume);
+        indexBootstrap.index(saved);
+        return saved;
     }
 
-    public List<Resume> getResumesByUsername(String username) {
-        return resumeRepository.findByUsername(username);
+    public Resume saveParsedResume(ResumeDTO dto, String username) {
+        return saveResume(toResume(dto, username));
     }
 
-    public List<Resume> getAllResumes() {
-        return resumeRepository.findAll();
+    // Saves the whole batch in a single transaction
+    public List<Resume> saveParsedResumes(List<ResumeDTO> dtos, String username) {
+        List<Resume> saved = resumeRepository.saveAll(dtos.stream().map(dto -> toResume(dto, username)).toList());
+        for (Resume resume : saved) {
+            indexBootstrap.index(resume);
+        }
+        return saved;
     }
-    public List<Resume> searchResumes(String query) {
-        // The current search only checks name and skills. Consider adding other fields if needed.
-        return resumeRepository.findByNameContainingIgnoreCaseOrSkillsContainingIgnoreCase(query, query);
+
+    private Resume toResume(ResumeDTO dto, String username) {
+        Resume resume = new Resume();
+        resume.setName(dto.getName());
+        resume.setEmail(dto.getEmail());
+        resume.setPhone(dto.getPhone());
+        resume.setSkills(dto.getSkills());
+        resume.setEducation(dto.getEducation());
+        resume.setProjects(dto.getProjects());
+        resume.setSummary(dto.getSummary());
+        resume.setUsername(username);
+        resume.setTextSignature(dto.getTextSignature());
+        indexes.forEach(index -> index.prepare(resume));
+        return resume;
+    }
+
+    // List reads load the element collections up front, so serializing them issues no extra queries
+    @Transactional(readOnly = true)
+    public CursorPage<Resume> getResumesByUsername(String username, String cursor, Integer size) {
+        return page(cursor, size, (afterId, limit) ->
+            resumeRepository.findByUsernameAndIdGreaterThanOrderByIdAsc(username, afterId, limit, Resume.class),
+            Resume::getId, resumeRepository::fetchCollections);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Resume> getAllResumes(String cursor, Integer size) {
+        return page(cursor, size, (afterId, limit) ->
+            resumeRepository.findByIdGreaterThanOrderByIdAsc(afterId, limit, Resume.class),
+            Resume::getId, resumeRepository::fetchCollections);
+    }
+
+    // Summaries read three columns plus skills; summary text, education and projects stay in the database
+    @Transactional(readOnly = true)
+    public CursorPage<ResumeSummary> getResumeSummariesByUsername(String username, String cursor, Integer size) {
+        return summaries(page(cursor, size, (afterId, limit) ->
+            resumeRepository.findByUsernameAndIdGreaterThanOrderByIdAsc(username, afterId, limit, ResumeListItem.class),
+            ResumeListItem::getId, items -> items));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ResumeSummary> getAllResumeSummaries(String cursor, Integer size) {
+        return summaries(page(cursor, size, (afterId, limit) ->
+            resumeRepository.findByIdGreaterThanOrderByIdAsc(afterId, limit, ResumeListItem.class),
+            ResumeListItem::getId, items -> items));
+    }
+
+    // One keyset page out of an id set computed in memory, e.g. a skill query result
+    @Transactional(readOnly = true)
+    public CursorPage<?> getResumePage(IdBitmap ids, String cursor, Integer size, ResumeView view) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        long[] page = ids.page(CursorCodec.decode(cursor), pageSize + 1);
+        boolean hasMore = page.length > pageSize;
+        List<Long> pageIds = Arrays.stream(page).limit(pageSize).boxed().toList();
+        String next = hasMore ? CursorCodec.encode(pageIds.get(pageIds.size() - 1)) : null;
+        return view == ResumeView.FULL
+            ? new CursorPage<>(getResumes(pageIds), next)
+            : new CursorPage<>(getResumeSummaries(pageIds), next);
+    }
+
+    // Lookups by ids from an in-memory index, in ascending id order
+    @Transactional(readOnly = true)
+    public List<Resume> getResumes(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of()
+            : resumeRepository.fetchCollections(resumeRepository.findByIdInOrderByIdAsc(ids, Resume.class));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResumeSummary> getResumeSummaries(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of()
+            : summaries(resumeRepository.findByIdInOrderByIdAsc(ids, ResumeListItem.class));
+    }
+
+    private CursorPage<ResumeSummary> summaries(CursorPage<ResumeListItem> page) {
+        return new CursorPage<>(summaries(page.getItems()), page.getNext());
+    }
+
+    private List<ResumeSummary> summaries(List<ResumeListItem> rows) {
+        Map<Long, List<String>> skills = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Long> ids = rows.stream().map(ResumeListItem::getId).toList();
+            for (Object[] row : resumeRepository.findSkillsByIds(ids)) {
+                skills.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return rows.stream()
+            .map(item -> new ResumeSummary(item.getId(), item.getName(), item.getEmail(),
+                skills.getOrDefault(item.getId(), List.of())))
+            .toList();
+    }
+
+    // Reads one row past the page to learn whether another page follows
+    private <T> CursorPage<T> page(String cursor, Integer size, BiFunction<Long, Limit, List<T>> query,
+                                   Function<T, Long> idOf, UnaryOperator<List<T>> load) {
+        long afterId = CursorCodec.decode(cursor);
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        List<T> rows = query.apply(afterId, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = load.apply(hasMore ? rows.subList(0, pageSize) : rows);
+        String next = hasMore ? CursorCodec.encode(idOf.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(List.copyOf(items), next);
     }
 }
@@ -0,0 +1,194 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.IdBitmap;
+import com.resumeanalyzer.util.SkillQuery;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * One compressed bitmap of resume ids per skill, plus one per owner, so boolean
+ * skill queries are evaluated as bitmap operations without touching the
+ * database. Skill names are matched case-insensitively, and aliases from the
+ * skill dictionary resolve to their canonical skill.
+ */
+@Service
+public class SkillBitmapIndex implements ResumeIndex {
+
+    private static final IdBitmap EMPTY = new IdBitmap();
+
+    private final SkillDictionaryService skillDictionaryService;
+    private Bitmaps bitmaps = new Bitmaps();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong queries = new AtomicLong();
+
+    private record Entry(String owner, Set<String> skills) {}
+
+    // Everything a rebuild replaces at once
+    private static final class Bitmaps {
+        private final Map<String, IdBitmap> bySkill = new HashMap<>();
+        private final Map<String, IdBitmap> byOwner = new HashMap<>();
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final IdBitmap all = new IdBitmap();
+
+        void index(Resume resume) {
+            Set<String> skills = resume.getSkills() == null ? Set.of()
+                : resume.getSkills().stream().map(SkillBitmapIndex::key).collect(Collectors.toSet());
+            remove(resume.getId());
+            for (String skill : skills) {
+                bySkill.computeIfAbsent(skill, s -> new IdBitmap()).add(resume.getId());
+            }
+            if (resume.getUsername() != null) {
+                byOwner.computeIfAbsent(resume.getUsername(), o -> new IdBitmap()).add(resume.getId());
+            }
+            all.add(resume.getId());
+            entries.put(resume.getId(), new Entry(resume.getUsername(), skills));
+        }
+
+        void remove(Long resumeId) {
+            Entry entry = entries.remove(resumeId);
+            if (entry == null) {
+                return;
+            }
+            for (String skill : entry.skills()) {
+                removeFrom(bySkill, skill, resumeId);
+            }
+            if (entry.owner() != null) {
+                removeFrom(byOwner, entry.owner(), resumeId);
+            }
+            all.remove(resumeId);
+        }
+
+        private static void removeFrom(Map<String, IdBitmap> bitmaps, String key, Long resumeId) {
+            IdBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null && bitmap.remove(resumeId) && bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    public SkillBitmapIndex(SkillDictionaryService skillDictionaryService) {
+        this.skillDictionaryService = skillDictionaryService;
+    }
+
+    @Override
+    public void index(Resume resume) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.index(resume);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long resumeId) {
+        lock.writeLock().lock();
+        try {
+            bitmaps.remove(resumeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            bitmaps = new Bitmaps();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        Bitmaps fresh = new Bitmaps();
+        return new Rebuild() {
+            @Override
+            public void index(Resume resume) {
+                fresh.index(resume);
+            }
+
+            @Override
+            public void remove(Long resumeId) {
+                fresh.remove(resumeId);
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    bitmaps = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * Ids of the resumes matching the query; with an owner, only that user's
+     * resumes, including for NOT. The result is a private copy.
+     */
+    public IdBitmap query(SkillQuery query, String owner) {
+        Map<String, String> canonical = new HashMap<>();
+        for (String skill : query.getSkills()) {
+            canonical.put(skill, resolve(skill));
+        }
+        queries.incrementAndGet();
+
+        lock.readLock().lock();
+        try {
+            Bitmaps current = bitmaps;
+            IdBitmap scope = owner == null ? current.all : current.byOwner.getOrDefault(owner, EMPTY);
+            IdBitmap result = query.evaluate(skill -> current.bySkill.getOrDefault(canonical.get(skill), EMPTY), scope);
+            // Intersecting with the scope also detaches the result from the live bitmaps
+            return IdBitmap.and(result, scope);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Bitmaps current = bitmaps;
+            long bytes = current.all.sizeInBytes();
+            for (IdBitmap bitmap : current.bySkill.values()) {
+                bytes += bitmap.sizeInBytes();
+            }
+            for (IdBitmap bitmap : current.byOwner.values()) {
+                bytes += bitmap.sizeInBytes();
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("resumes", current.all.cardinality());
+            stats.put("skills", current.bySkill.size());
+            stats.put("owners", current.byOwner.size());
+            stats.put("bitmapBytes", bytes);
+            stats.put("queries", queries.get());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Aliases such as "k8s" resolve to the canonical skill the parser stores
+    private String resolve(String skill) {
+        List<String> matches = skillDictionaryService.getMatcher().match(skill);
+        return key(matches.size() == 1 ? matches.get(0) : skill);
+    }
+
+    private static String key(String skill) {
+        return skill.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,101 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.SkillMatcher;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class SkillDictionaryService {
+    private static final Logger logger = LoggerFactory.getLogger(SkillDictionaryService.class);
+
+    private final Resource dictionary;
+    private final AtomicReference<SkillMatcher> matcher = new AtomicReference<>();
+    private final ScheduledExecutorService watcher;
+    private volatile long lastModified;
+
+    public SkillDictionaryService(ResourceLoader resourceLoader,
+                                  @Value("${resume.skills.dictionary:classpath:skills.txt}") String location,
+                                  @Value("${resume.skills.reload-interval-seconds:30}") long reloadIntervalSeconds)
+            throws IOException {
+        this.dictionary = resourceLoader.getResource(location);
+        reload();
+
+        // Only a dictionary on the file system can change underneath us
+        if (reloadIntervalSeconds > 0 && dictionary.isFile()) {
+            watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "skill-dictionary-watcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watcher.scheduleWithFixedDelay(this::reloadIfModified,
+                    reloadIntervalSeconds, reloadIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            watcher = null;
+        }
+    }
+
+    public SkillMatcher getMatcher() {
+        return matcher.get();
+    }
+
+    // Compiles the dictionary off to the side and swaps it in atomically; parses in flight keep the old one
+    public synchronized SkillMatcher reload() throws IOException {
+        long modified = dictionary.isFile() ? dictionary.lastModified() : 0L;
+        byte[] content;
+        try (InputStream in = dictionary.getInputStream()) {
+            content = in.readAllBytes();
+        }
+
+        List<String> lines = new String(content, StandardCharsets.UTF_8).lines().toList();
+        SkillMatcher compiled = SkillMatcher.compile(fingerprint(content), SkillMatcher.parseDictionary(lines));
+        matcher.set(compiled);
+        lastModified = modified;
+        logger.info("Loaded {} skills from {} (version {})", compiled.size(), dictionary.getDescription(),
+                compiled.getVersion());
+        return compiled;
+    }
+
+    private void reloadIfModified() {
+        try {
+            if (dictionary.lastModified() != lastModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            // Keep serving the previous dictionary until the file is fixed
+            logger.warn("Failed to reload skill dictionary from {}: {}", dictionary.getDescription(), e.getMessage());
+        }
+    }
+
+    private static String fingerprint(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.ResumeTextCollector;
+
+import java.io.IOException;
+
+// Pushes the text of one document format into a collector
+public interface TextExtractor {
+    void extract(DocumentContent document, ResumeTextCollector collector) throws IOException;
+}
@@ -0,0 +1,38 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.ResumeTextCollector;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Fallback for every format without a dedicated extractor
+@Component
+public class TikaTextExtractor implements TextExtractor {
+
+    private final Parser parser = new AutoDetectParser();
+
+    @Override
+    public void extract(DocumentContent document, ResumeTextCollector collector) throws IOException {
+        Metadata metadata = new Metadata();
+        if (document.getFilename() != null) {
+            metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, document.getFilename());
+        }
+        ParseContext context = new ParseContext();
+        context.set(Parser.class, parser);
+        try (InputStream in = new ByteArrayInputStream(document.getBytes())) {
+            parser.parse(in, collector.asContentHandler(), metadata, context);
+        } catch (SAXException | TikaException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
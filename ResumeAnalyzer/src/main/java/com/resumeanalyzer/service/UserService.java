@@ -15,11 +15,14 @@ public class UserService implements UserDetailsService {
 
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final UserStateCache userStateCache;
 
     @Autowired
-    public UserService(PasswordEncoder passwordEncoder, UserRepository userRepository) {
+    public UserService(PasswordEncoder passwordEncoder, UserRepository userRepository,
+                       UserStateCache userStateCache) {
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
+        this.userStateCache = userStateCache;
     }
 
     public String encodePassword(String rawPassword) {
@@ -33,6 +36,7 @@ public class UserService implements UserDetailsService {
     @Transactional // ✅ Spring's transactional annotation
     public void deleteUserByUsername(String username) {
         userRepository.deleteByUsername(username);
+        userStateCache.userDeleted(username);
     }
 
     @Override
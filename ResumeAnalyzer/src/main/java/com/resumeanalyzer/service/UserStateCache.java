@@ -0,0 +1,136 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.entity.User;
+import com.resumeanalyzer.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * What stateless JWT authentication needs to know about a user: whether the
+ * account still exists and its current role. Entries are loaded on first use
+ * and reloaded after a TTL, so a request normally costs no database read.
+ * Role changes and deletions on this node take effect immediately: they
+ * update the entry and revoke every token issued before them.
+ */
+@Service
+public class UserStateCache {
+
+    private record UserState(boolean exists, String role, long loadedAt) {}
+
+    private final UserRepository userRepository;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, UserState> entries;
+    // username -> epoch millisecond before which its tokens are rejected; kept apart so eviction can't lose it
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+
+    public UserStateCache(UserRepository userRepository,
+                          @Value("${security.user-state.max-entries:10000}") int maxEntries,
+                          @Value("${security.user-state.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserState> eldest) {
+                return size() > UserStateCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Whether a token with a verified signature may still authenticate: the
+     * user exists, the token carries exactly the user's current role, and it
+     * was not issued before a revocation.
+     */
+    public boolean accepts(String username, List<String> authorities, Date issuedAt) {
+        Long before = revokedBefore.get(username);
+        UserState state = get(username);
+        boolean accepted = state.exists()
+            && authorities.size() == 1 && authorities.get(0).equals(state.role())
+            && (before == null || (issuedAt != null && issuedAt.getTime() >= before));
+        if (!accepted) {
+            rejections.incrementAndGet();
+        }
+        return accepted;
+    }
+
+    public void roleChanged(String username, String role) {
+        revoke(username);
+        put(username, new UserState(true, role, System.currentTimeMillis()));
+    }
+
+    public void userDeleted(String username) {
+        revoke(username);
+        put(username, new UserState(false, null, System.currentTimeMillis()));
+    }
+
+    // Forgets the cached state, e.g. when a deleted username is registered again
+    public void invalidate(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlSeconds", ttlMillis / 1000);
+        stats.put("hits", hits.get());
+        stats.put("loads", loads.get());
+        stats.put("rejections", rejections.get());
+        stats.put("revokedUsers", revokedBefore.size());
+        return stats;
+    }
+
+    private UserState get(String username) {
+        UserState state;
+        synchronized (entries) {
+            state = entries.get(username);
+        }
+        if (state != null && System.currentTimeMillis() - state.loadedAt() < ttlMillis) {
+            hits.incrementAndGet();
+            return state;
+        }
+        // Loaded outside the lock, stamped with the time the read started
+        loads.incrementAndGet();
+        long started = System.currentTimeMillis();
+        Optional<User> user = userRepository.findByUsername(username);
+        UserState loaded = new UserState(user.isPresent(), user.map(User::getRole).orElse(null), started);
+        synchronized (entries) {
+            // A role change or deletion recorded while the read was running wins over it
+            UserState current = entries.get(username);
+            if (current != null && current.loadedAt() > started) {
+                return current;
+            }
+            entries.put(username, loaded);
+        }
+        return loaded;
+    }
+
+    private void put(String username, UserState state) {
+        synchronized (entries) {
+            entries.put(username, state);
+        }
+    }
+
+    // Millisecond precision, so a re-login right after a role change is not caught by it
+    private void revoke(String username) {
+        revokedBefore.put(username, System.currentTimeMillis());
+    }
+}
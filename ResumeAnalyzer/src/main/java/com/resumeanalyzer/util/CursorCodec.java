@@ -0,0 +1,37 @@
+package com.resumeanalyzer.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque page cursors: clients pass them back unchanged and never build them
+public final class CursorCodec {
+
+    private static final String PREFIX = "r1:";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Returns the id to continue after; 0 (before every id) when there is no cursor
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (value.startsWith(PREFIX)) {
+                long id = Long.parseLong(value.substring(PREFIX.length()));
+                if (id >= 0) {
+                    return id;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // falls through to the error below; NumberFormatException is an IllegalArgumentException
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+}
@@ -0,0 +1,108 @@
+package com.resumeanalyzer.util;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// Raw bytes of an uploaded document plus the metadata the parser needs
+public class DocumentContent {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final byte[] bytes;
+    private final String filename;
+    private final String contentType;
+    private volatile byte[] sha256;
+    private volatile String sha256Hex;
+
+    public DocumentContent(byte[] bytes, String filename, String contentType) {
+        this(bytes, filename, contentType, null);
+    }
+
+    private DocumentContent(byte[] bytes, String filename, String contentType, byte[] sha256) {
+        this.bytes = bytes;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.sha256 = sha256;
+    }
+
+    public static DocumentContent from(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return read(in, file.getSize(), file.getOriginalFilename(), file.getContentType());
+        }
+    }
+
+    /**
+     * Reads the stream exactly once into a buffer sized from the expected length,
+     * hashing the bytes as they arrive so the digest needs no second pass.
+     */
+    public static DocumentContent read(InputStream in, long expectedSize, String filename, String contentType)
+            throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[expectedSize > 0 && expectedSize < Integer.MAX_VALUE - 8
+                ? (int) expectedSize : DEFAULT_BUFFER_SIZE];
+        int length = 0;
+        while (true) {
+            if (length == buffer.length) {
+                // Only grow when the stream is longer than announced
+                int next = in.read();
+                if (next < 0) {
+                    break;
+                }
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, DEFAULT_BUFFER_SIZE));
+                buffer[length] = (byte) next;
+                digest.update(buffer, length++, 1);
+            }
+            int read = in.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                break;
+            }
+            digest.update(buffer, length, read);
+            length += read;
+        }
+        byte[] bytes = length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+        return new DocumentContent(bytes, filename, contentType, digest.digest());
+    }
+
+    public byte[] getBytes() { return bytes; }
+    public String getFilename() { return filename; }
+    public String getContentType() { return contentType; }
+    public int getSize() { return bytes.length; }
+
+    public String getSha256() {
+        String hex = sha256Hex;
+        if (hex == null) {
+            hex = HexFormat.of().formatHex(digest());
+            sha256Hex = hex;
+        }
+        return hex;
+    }
+
+    // Base64 form, as S3 expects it in x-amz-checksum-sha256
+    public String getSha256Base64() {
+        return Base64.getEncoder().encodeToString(digest());
+    }
+
+    private byte[] digest() {
+        byte[] digest = sha256;
+        if (digest == null) {
+            digest = newDigest().digest(bytes);
+            sha256 = digest;
+        }
+        return digest;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.resumeanalyzer.util;
+
+import java.util.Locale;
+
+public enum DocumentFormat {
+    PDF, DOCX, OTHER;
+
+    private static final String DOCX_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    // PDF readers accept the header anywhere in the first kilobyte
+    private static final int PDF_HEADER_WINDOW = 1024;
+
+    // Magic bytes decide; the declared content type and file name only tell DOCX apart from other zip files
+    public static DocumentFormat detect(DocumentContent document) {
+        byte[] bytes = document.getBytes();
+        if (isPdf(bytes)) {
+            return PDF;
+        }
+        if (bytes.length >= 4 && bytes[0] == 'P' && bytes[1] == 'K' && bytes[2] == 3 && bytes[3] == 4) {
+            String contentType = document.getContentType();
+            String filename = document.getFilename();
+            if (DOCX_CONTENT_TYPE.equalsIgnoreCase(contentType)
+                    || (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".docx"))) {
+                return DOCX;
+            }
+        }
+        return OTHER;
+    }
+
+    private static boolean isPdf(byte[] bytes) {
+        int limit = Math.min(bytes.length, PDF_HEADER_WINDOW) - 5;
+        for (int i = 0; i <= limit; i++) {
+            if (bytes[i] == '%' && bytes[i + 1] == 'P' && bytes[i + 2] == 'D' && bytes[i + 3] == 'F'
+                    && bytes[i + 4] == '-') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
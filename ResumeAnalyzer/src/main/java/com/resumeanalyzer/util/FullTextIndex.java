@@ -0,0 +1,378 @@
+package com.resumeanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Positional inverted index over a fixed set of weighted fields, ranked with
+ * BM25F. Queries are a list of clauses that must all match: plain terms,
+ * prefixes ({@code kube*}) and quoted phrases ({@code "machine learning"}).
+ * Documents are added, replaced and removed one at a time; searches run
+ * concurrently with each other and wait only for in-flight updates.
+ */
+public final class FullTextIndex {
+
+    public enum Field {
+        NAME(3.0), EMAIL(1.0), SKILLS(2.5), SUMMARY(1.0), EDUCATION(1.0), PROJECTS(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Hit(long id, double score) {}
+
+    public record Result(List<Hit> hits, int totalMatches) {}
+
+    private static final Field[] FIELDS = Field.values();
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Keeps phrases from matching across two values of a multi-valued field, e.g. two skills
+    private static final int POSITION_GAP = 100;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    // term -> document id -> positions per field ordinal (null where the term is absent)
+    private final TreeMap<String, Map<Long, int[][]>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final long[] totalFieldLength = new long[FIELDS.length];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Document(int[] fieldLengths, Set<String> terms) {}
+
+    private record Clause(List<String> terms, boolean prefix) {}
+
+    /** Adds the document, replacing any earlier version with the same id. */
+    public void put(long id, Map<Field, List<String>> fields) {
+        int[] lengths = new int[FIELDS.length];
+        Map<String, List<Integer>[]> positions = new HashMap<>();
+        for (Field field : FIELDS) {
+            int position = 0;
+            for (String value : fields.getOrDefault(field, List.of())) {
+                for (String token : tokenize(value)) {
+                    List<Integer>[] byField = positions.computeIfAbsent(token, t -> newPositionLists());
+                    if (byField[field.ordinal()] == null) {
+                        byField[field.ordinal()] = new ArrayList<>();
+                    }
+                    byField[field.ordinal()].add(position++);
+                    lengths[field.ordinal()]++;
+                }
+                position += POSITION_GAP;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            for (Map.Entry<String, List<Integer>[]> entry : positions.entrySet()) {
+                int[][] byField = new int[FIELDS.length][];
+                for (int f = 0; f < FIELDS.length; f++) {
+                    List<Integer> list = entry.getValue()[f];
+                    if (list != null) {
+                        byField[f] = list.stream().mapToInt(Integer::intValue).toArray();
+                    }
+                }
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(id, byField);
+            }
+            for (int f = 0; f < FIELDS.length; f++) {
+                totalFieldLength[f] += lengths[f];
+            }
+            documents.put(id, new Document(lengths, positions.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            Arrays.fill(totalFieldLength, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Best {@code limit} documents matching every clause of the query, highest score first. */
+    public Result search(String query, int limit) {
+        return search(query, limit, id -> true);
+    }
+
+    /**
+     * Like {@link #search(String, int)}, over the documents accepted by the
+     * filter only; the others are skipped before scoring and never counted.
+     */
+    public Result search(String query, int limit, LongPredicate filter) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty() || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (Clause clause : clauses) {
+                Set<Long> matched = scores == null ? null : scores.keySet();
+                Map<Long, Double> clauseScores = score(clause, matched == null ? filter : matched::contains);
+                if (scores == null) {
+                    scores = clauseScores;
+                } else {
+                    scores.keySet().retainAll(clauseScores.keySet());
+                    scores.replaceAll((id, score) -> score + clauseScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return new Result(List.of(), 0);
+                }
+            }
+            return new Result(top(scores, limit), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean removeLocked(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return false;
+        }
+        for (String term : document.terms()) {
+            Map<Long, int[][]> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        for (int f = 0; f < FIELDS.length; f++) {
+            totalFieldLength[f] -= document.fieldLengths()[f];
+        }
+        return true;
+    }
+
+    // Scores one clause over the documents the candidates predicate accepts
+    private Map<Long, Double> score(Clause clause, LongPredicate candidates) {
+        Map<Long, Double> scores = new HashMap<>();
+        if (clause.prefix()) {
+            String prefix = clause.terms().get(0);
+            SortedMap<String, Map<Long, int[][]>> expansions = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+            int expanded = 0;
+            for (Map<Long, int[][]> docs : expansions.values()) {
+                if (expanded++ == MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                double idf = idf(docs.size());
+                for (Map.Entry<Long, int[][]> entry : docs.entrySet()) {
+                    if (candidates.test(entry.getKey())) {
+                        scores.merge(entry.getKey(), bm25(idf, entry.getKey(), entry.getValue(), null), Double::sum);
+                    }
+                }
+            }
+            return scores;
+        }
+
+        List<Map<Long, int[][]>> termPostings = new ArrayList<>();
+        double idf = 0;
+        for (String term : clause.terms()) {
+            Map<Long, int[][]> docs = postings.get(term);
+            if (docs == null) {
+                return scores;
+            }
+            termPostings.add(docs);
+            idf += idf(docs.size());
+        }
+
+        // Walk the rarest term's documents and check the others against them
+        Map<Long, int[][]> rarest = termPostings.stream().min(Comparator.comparingInt(Map::size)).get();
+        for (Long id : rarest.keySet()) {
+            if (!candidates.test(id)) {
+                continue;
+            }
+            if (termPostings.size() == 1) {
+                scores.put(id, bm25(idf, id, termPostings.get(0).get(id), null));
+                continue;
+            }
+            int[][][] positions = new int[termPostings.size()][][];
+            boolean all = true;
+            for (int t = 0; t < positions.length && all; t++) {
+                positions[t] = termPostings.get(t).get(id);
+                all = positions[t] != null;
+            }
+            if (all) {
+                int[] frequencies = phraseFrequencies(positions);
+                if (frequencies != null) {
+                    scores.put(id, bm25(idf, id, null, frequencies));
+                }
+            }
+        }
+        return scores;
+    }
+
+    // Occurrences of the phrase per field, or null when it occurs nowhere
+    private static int[] phraseFrequencies(int[][][] positions) {
+        int[] frequencies = new int[FIELDS.length];
+        boolean found = false;
+        for (int f = 0; f < FIELDS.length; f++) {
+            int[] first = positions[0][f];
+            if (first == null) {
+                continue;
+            }
+            for (int start : first) {
+                boolean match = true;
+                for (int t = 1; t < positions.length && match; t++) {
+                    int[] next = positions[t][f];
+                    match = next != null && Arrays.binarySearch(next, start + t) >= 0;
+                }
+                if (match) {
+                    frequencies[f]++;
+                    found = true;
+                }
+            }
+        }
+        return found ? frequencies : null;
+    }
+
+    // BM25F: field frequencies are length-normalized and weighted before a single saturation
+    private double bm25(double idf, long id, int[][] positions, int[] frequencies) {
+        int[] lengths = documents.get(id).fieldLengths();
+        double tf = 0;
+        for (Field field : FIELDS) {
+            int f = field.ordinal();
+            int frequency = frequencies != null ? frequencies[f] : positions[f] == null ? 0 : positions[f].length;
+            if (frequency > 0) {
+                double average = (double) totalFieldLength[f] / documents.size();
+                tf += field.weight * frequency / (1 - B + B * lengths[f] / Math.max(average, 1));
+            }
+        }
+        return idf * tf * (K1 + 1) / (tf + K1);
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static List<Hit> top(Map<Long, Double> scores, int limit) {
+        Comparator<Hit> order = Comparator.comparingDouble(Hit::score).thenComparing(Hit::id, Comparator.reverseOrder());
+        PriorityQueue<Hit> heap = new PriorityQueue<>(order);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.add(new Hit(entry.getKey(), entry.getValue()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(order.reversed());
+        return hits;
+    }
+
+    // Quoted text is a phrase, a trailing * makes a prefix, anything else is a term
+    private static List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        if (query == null) {
+            return clauses;
+        }
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                end = end < 0 ? query.length() : end;
+                addClause(clauses, tokenize(query.substring(i + 1, end)), false);
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end)) && query.charAt(end) != '"') {
+                    end++;
+                }
+                String word = query.substring(i, end);
+                boolean prefix = word.endsWith("*");
+                List<String> tokens = tokenize(word);
+                if (prefix && tokens.size() == 1) {
+                    clauses.add(new Clause(tokens, true));
+                } else {
+                    // "node.js" becomes the phrase "node js"
+                    addClause(clauses, tokens, false);
+                }
+                i = end;
+            }
+        }
+        return clauses;
+    }
+
+    private static void addClause(List<Clause> clauses, List<String> tokens, boolean prefix) {
+        if (!tokens.isEmpty()) {
+            clauses.add(new Clause(tokens, prefix));
+        }
+    }
+
+    /** Lower-cased runs of letters and digits; trailing + and # are kept so C++ and C# stay distinct from C. */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            while (i < text.length() && (text.charAt(i) == '+' || text.charAt(i) == '#')) {
+                i++;
+            }
+            tokens.add(text.substring(start, i).toLowerCase());
+        }
+        return tokens;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer>[] newPositionLists() {
+        return new List[FIELDS.length];
+    }
+}
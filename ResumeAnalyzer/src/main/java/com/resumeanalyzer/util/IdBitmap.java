@@ -0,0 +1,380 @@
+package com.resumeanalyzer.util;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of ids in the Roaring layout. Ids are split into a 16-bit key
+ * and a 16-bit low part; each key owns a container that is a sorted char array
+ * while it holds at most 4096 values and a 65536-bit bitmap beyond that. Set
+ * operations work container by container and return new bitmaps. Ids range
+ * over 0..2^32-1. Instances are not thread-safe.
+ */
+public final class IdBitmap {
+
+    private static final long MAX_ID = 0xFFFFFFFFL;
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public boolean add(long id) {
+        char key = key(id);
+        int i = find(key);
+        if (i < 0) {
+            i = -i - 1;
+            insert(i, key, new Container());
+        }
+        return containers[i].add((char) id);
+    }
+
+    public boolean remove(long id) {
+        int i = find(key(id));
+        if (i < 0) {
+            return false;
+        }
+        boolean removed = containers[i].remove((char) id);
+        if (containers[i].cardinality == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+            containers[--size] = null;
+        }
+        return removed;
+    }
+
+    public boolean contains(long id) {
+        int i = find(key(id));
+        return i >= 0 && containers[i].contains((char) id);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Approximate heap footprint of the containers, for stats
+    public long sizeInBytes() {
+        long bytes = size * 10L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].words != null ? WORDS * 8L : containers[i].values.length * 2L;
+        }
+        return bytes;
+    }
+
+    /** Up to {@code limit} ids greater than {@code afterId}, in ascending order. */
+    public long[] page(long afterId, int limit) {
+        long[] out = new long[limit];
+        int count = 0;
+        for (int i = 0; i < size && count < limit; i++) {
+            long base = (long) keys[i] << 16;
+            if (base + 0xFFFF <= afterId) {
+                continue;
+            }
+            int from = afterId < base ? 0 : (int) (afterId - base) + 1;
+            count = containers[i].copyTo(out, count, limit, base, from);
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    public IdBitmap copy() {
+        IdBitmap copy = new IdBitmap();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 4));
+        copy.containers = new Container[copy.keys.length];
+        for (int i = 0; i < size; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    public static IdBitmap and(IdBitmap a, IdBitmap b) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.append(a.keys[i], Container.and(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public static IdBitmap or(IdBitmap a, IdBitmap b) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.append(a.keys[i], a.containers[i++].copy());
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], b.containers[j++].copy());
+            } else {
+                result.append(a.keys[i], Container.or(a.containers[i++], b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    public static IdBitmap andNot(IdBitmap a, IdBitmap b) {
+        IdBitmap result = new IdBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) {
+                j++;
+            }
+            if (j < b.size && b.keys[j] == a.keys[i]) {
+                result.append(a.keys[i], Container.andNot(a.containers[i], b.containers[j]));
+            } else {
+                result.append(a.keys[i], a.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    private static char key(long id) {
+        if (id < 0 || id > MAX_ID) {
+            throw new IllegalArgumentException("Id out of bitmap range: " + id);
+        }
+        return (char) (id >>> 16);
+    }
+
+    private int find(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    // Keys arrive in ascending order during set operations; empty results are dropped
+    private void append(char key, Container container) {
+        if (container.cardinality > 0) {
+            insert(size, key, container);
+        }
+    }
+
+    // Exactly one of values (sorted, first cardinality slots used) and words is set
+    private static final class Container {
+        private char[] values = new char[4];
+        private long[] words;
+        private int cardinality;
+
+        boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (words == null) {
+                int i = Arrays.binarySearch(values, 0, cardinality, low);
+                if (i >= 0) {
+                    return false;
+                }
+                if (cardinality < ARRAY_LIMIT) {
+                    i = -i - 1;
+                    if (cardinality == values.length) {
+                        values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality * 2));
+                    }
+                    System.arraycopy(values, i, values, i + 1, cardinality - i);
+                    values[i] = low;
+                    cardinality++;
+                    return true;
+                }
+                toWords();
+            }
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                return false;
+            }
+            words[low >>> 6] |= bit;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (words == null) {
+                int i = Arrays.binarySearch(values, 0, cardinality, low);
+                if (i < 0) {
+                    return false;
+                }
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+                return true;
+            }
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                return false;
+            }
+            words[low >>> 6] &= ~bit;
+            cardinality--;
+            if (cardinality <= ARRAY_LIMIT) {
+                toValues();
+            }
+            return true;
+        }
+
+        int copyTo(long[] out, int count, int limit, long base, int from) {
+            if (words == null) {
+                int i = Arrays.binarySearch(values, 0, cardinality, (char) from);
+                for (i = i < 0 ? -i - 1 : i; i < cardinality && count < limit; i++) {
+                    out[count++] = base + values[i];
+                }
+                return count;
+            }
+            for (int w = from >>> 6; w < WORDS && count < limit; w++) {
+                long word = words[w];
+                if (w == from >>> 6) {
+                    word &= -1L << from;
+                }
+                while (word != 0 && count < limit) {
+                    out[count++] = base + (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return count;
+        }
+
+        Container copy() {
+            Container copy = new Container();
+            copy.cardinality = cardinality;
+            if (words != null) {
+                copy.words = words.clone();
+                copy.values = null;
+            } else {
+                copy.values = Arrays.copyOf(values, Math.max(cardinality, 4));
+            }
+            return copy;
+        }
+
+        static Container and(Container a, Container b) {
+            if (a.words != null && b.words != null) {
+                Container result = new Container();
+                result.words = new long[WORDS];
+                result.values = null;
+                for (int w = 0; w < WORDS; w++) {
+                    result.words[w] = a.words[w] & b.words[w];
+                    result.cardinality += Long.bitCount(result.words[w]);
+                }
+                return result.normalize();
+            }
+            // At least one side is small: probe the other side with each of its values
+            Container small = a.words == null ? a : b;
+            Container other = small == a ? b : a;
+            Container result = new Container();
+            result.values = new char[Math.max(small.cardinality, 4)];
+            for (int i = 0; i < small.cardinality; i++) {
+                if (other.contains(small.values[i])) {
+                    result.values[result.cardinality++] = small.values[i];
+                }
+            }
+            return result;
+        }
+
+        static Container or(Container a, Container b) {
+            Container result = new Container();
+            result.words = new long[WORDS];
+            result.values = null;
+            a.orInto(result.words);
+            b.orInto(result.words);
+            for (long word : result.words) {
+                result.cardinality += Long.bitCount(word);
+            }
+            return result.normalize();
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a.words == null) {
+                Container result = new Container();
+                result.values = new char[Math.max(a.cardinality, 4)];
+                for (int i = 0; i < a.cardinality; i++) {
+                    if (!b.contains(a.values[i])) {
+                        result.values[result.cardinality++] = a.values[i];
+                    }
+                }
+                return result;
+            }
+            Container result = a.copy();
+            if (b.words != null) {
+                result.cardinality = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    result.words[w] &= ~b.words[w];
+                    result.cardinality += Long.bitCount(result.words[w]);
+                }
+            } else {
+                for (int i = 0; i < b.cardinality; i++) {
+                    char low = b.values[i];
+                    long bit = 1L << low;
+                    if ((result.words[low >>> 6] & bit) != 0) {
+                        result.words[low >>> 6] &= ~bit;
+                        result.cardinality--;
+                    }
+                }
+            }
+            return result.normalize();
+        }
+
+        private void orInto(long[] target) {
+            if (words != null) {
+                for (int w = 0; w < WORDS; w++) {
+                    target[w] |= words[w];
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    target[values[i] >>> 6] |= 1L << values[i];
+                }
+            }
+        }
+
+        private Container normalize() {
+            if (words != null && cardinality <= ARRAY_LIMIT) {
+                toValues();
+            }
+            return this;
+        }
+
+        private void toWords() {
+            words = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        private void toValues() {
+            values = new char[Math.max(cardinality, 4)];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[count++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            words = null;
+        }
+    }
+}
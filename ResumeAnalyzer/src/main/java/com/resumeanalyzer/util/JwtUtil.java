@@ -1,6 +1,7 @@
 package com.resumeanalyzer.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,27 +10,88 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:2029f99e-1486-485d-80a6-6d39ef0fdc6d}") // Default for development
-    private String secretKey;
+    // The registered iat claim only has second precision; revocations compare against this instead
+    private static final String ISSUED_AT_MILLIS = "iatMillis";
+
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    // Recently verified tokens by SHA-256 of the token, so a repeat request skips parsing and the HMAC
+    private final int maxCachedTokens;
+    private final Map<String, VerifiedToken> verified;
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong cacheEvictions = new AtomicLong();
+
+    public JwtUtil(@Value("${jwt.secret:2029f99e-1486-485d-80a6-6d39ef0fdc6d}") String secretKey, // Default for development
+                   @Value("${jwt.cache.max-entries:10000}") int maxCachedTokens) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.maxCachedTokens = maxCachedTokens;
+        // Least recently used first, so making room for a new token is O(1)
+        this.verified = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                if (size() > JwtUtil.this.maxCachedTokens) {
+                    cacheEvictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Parses the token and checks its signature and expiry once; repeated calls
+     * with the same token are answered from the cache until it expires.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached;
+        synchronized (verified) {
+            cached = verified.get(digest);
+            if (cached != null && cached.isExpired(System.currentTimeMillis())) {
+                verified.remove(digest);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return cached;
+        }
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        cacheMisses.incrementAndGet();
+        Claims claims = extractAllClaims(token);
+        VerifiedToken parsed = new VerifiedToken(claims.getSubject(), authorities(claims),
+                issuedAt(claims), claims.getExpiration());
+        cache(digest, parsed);
+        return parsed;
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).username();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verify(token).expiration();
+    }
+
+    public Date extractIssuedAt(String token) {
+        return verify(token).issuedAt();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> resolver) {
@@ -38,20 +100,13 @@ public class JwtUtil {
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        VerifiedToken verifiedToken = verify(token);
+        return verifiedToken.username().equals(userDetails.getUsername())
+                && !verifiedToken.isExpired(System.currentTimeMillis());
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -67,18 +122,35 @@ public class JwtUtil {
 
     public String createToken(Map<String, Object> claims, String subject) {
         long expiration = 1000 * 60 * 60 * 10; // 10 hours
+        long now = System.currentTimeMillis();
 
         return Jwts.builder()
                 .setClaims(claims)
+                .claim(ISSUED_AT_MILLIS, now)
                 .setSubject(subject)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public List<String> extractAuthorities(String token) {
-        Claims claims = extractAllClaims(token);
+        return verify(token).authorities();
+    }
+
+    public Map<String, Object> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (verified) {
+            stats.put("size", verified.size());
+        }
+        stats.put("maxEntries", maxCachedTokens);
+        stats.put("hits", cacheHits.get());
+        stats.put("misses", cacheMisses.get());
+        stats.put("evictions", cacheEvictions.get());
+        return stats;
+    }
+
+    private static List<String> authorities(Claims claims) {
         Object authObj = claims.get("authorities");
 
         if (authObj instanceof List<?>) {
@@ -88,4 +160,29 @@ public class JwtUtil {
         }
         return List.of();
     }
+
+    // Tokens issued before the millisecond claim existed fall back to the start of their iat second
+    private static Date issuedAt(Claims claims) {
+        Object millis = claims.get(ISSUED_AT_MILLIS);
+        return millis instanceof Number number ? new Date(number.longValue()) : claims.getIssuedAt();
+    }
+
+    // When full, the least recently used token makes room; expired ones are dropped when next looked up
+    private void cache(String digest, VerifiedToken token) {
+        if (maxCachedTokens <= 0) {
+            return;
+        }
+        synchronized (verified) {
+            verified.put(digest, token);
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
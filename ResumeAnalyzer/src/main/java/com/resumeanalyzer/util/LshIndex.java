@@ -0,0 +1,157 @@
+package com.resumeanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * Locality-sensitive hashing over {@link MinHash} signatures. Each signature is
+ * cut into bands of rows; documents that agree on every row of at least one
+ * band share a bucket and become candidates, which are then checked against
+ * the similarity threshold. With 16 bands of 8 rows, a pair at 0.8 similarity
+ * becomes a candidate about 95% of the time and a pair at 0.9 almost always,
+ * while a pair at 0.5 does so only about 6% of the time.
+ * Instances are not thread-safe.
+ */
+public final class LshIndex {
+
+    public record Similar(long id, double similarity) {}
+
+    private static final int BANDS = 16;
+    private static final int ROWS = MinHash.SIZE / BANDS;
+
+    private final double threshold;
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets = new ArrayList<>();
+
+    public LshIndex(double threshold) {
+        this.threshold = threshold;
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public void put(long id, int[] signature) {
+        remove(id);
+        signatures.put(id, signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(id);
+        }
+    }
+
+    public void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(signature, band);
+            Set<Long> bucket = buckets.get(band).get(key);
+            if (bucket != null && bucket.remove(id) && bucket.isEmpty()) {
+                buckets.get(band).remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        signatures.clear();
+        buckets.forEach(Map::clear);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /** Indexed documents at or above the threshold, most similar first. */
+    public List<Similar> similar(int[] signature) {
+        return similar(signature, id -> true);
+    }
+
+    // Only documents the filter accepts are compared
+    public List<Similar> similar(int[] signature, LongPredicate filter) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<Long> bucket = buckets.get(band).get(bandKey(signature, band));
+            if (bucket != null) {
+                for (long id : bucket) {
+                    if (filter.test(id)) {
+                        candidates.add(id);
+                    }
+                }
+            }
+        }
+        List<Similar> similar = new ArrayList<>();
+        for (long candidate : candidates) {
+            double similarity = MinHash.similarity(signature, signatures.get(candidate));
+            if (similarity >= threshold) {
+                similar.add(new Similar(candidate, similarity));
+            }
+        }
+        similar.sort(Comparator.comparingDouble(Similar::similarity).reversed().thenComparingLong(Similar::id));
+        return similar;
+    }
+
+    /**
+     * Groups of two or more documents connected by above-threshold pairs, each
+     * sorted by id, largest group first. Only pairs sharing a bucket are compared.
+     */
+    public List<List<Long>> clusters() {
+        Map<Long, Long> parent = new HashMap<>();
+        for (Map<Long, Set<Long>> band : buckets) {
+            for (Set<Long> bucket : band.values()) {
+                if (bucket.size() < 2) {
+                    continue;
+                }
+                Long[] ids = bucket.toArray(new Long[0]);
+                for (int i = 0; i < ids.length; i++) {
+                    for (int j = i + 1; j < ids.length; j++) {
+                        if (find(parent, ids[i]).equals(find(parent, ids[j]))) {
+                            continue;
+                        }
+                        if (MinHash.similarity(signatures.get(ids[i]), signatures.get(ids[j])) >= threshold) {
+                            parent.put(find(parent, ids[i]), find(parent, ids[j]));
+                        }
+                    }
+                }
+            }
+        }
+
+        Map<Long, List<Long>> groups = new HashMap<>();
+        for (Long id : parent.keySet()) {
+            groups.computeIfAbsent(find(parent, id), root -> new ArrayList<>()).add(id);
+        }
+        List<List<Long>> clusters = new ArrayList<>();
+        for (List<Long> group : groups.values()) {
+            if (group.size() > 1) {
+                group.sort(null);
+                clusters.add(group);
+            }
+        }
+        clusters.sort(Comparator.<List<Long>>comparingInt(List::size).reversed()
+            .thenComparing(cluster -> cluster.get(0)));
+        return clusters;
+    }
+
+    private static Long find(Map<Long, Long> parent, Long id) {
+        Long root = id;
+        Long next;
+        while ((next = parent.get(root)) != null && !next.equals(root)) {
+            root = next;
+        }
+        parent.put(id, root);
+        return root;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[row];
+        }
+        return key;
+    }
+}
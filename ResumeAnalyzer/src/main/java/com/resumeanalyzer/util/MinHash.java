@@ -0,0 +1,92 @@
+package com.resumeanalyzer.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over word shingles. Two signatures agree in a fraction
+ * of positions that estimates the Jaccard similarity of the shingle sets, so
+ * near-duplicate texts can be compared without keeping the texts.
+ */
+public final class MinHash {
+
+    public static final int SIZE = 128;
+    private static final int SHINGLE_WORDS = 3;
+
+    // Fixed seed: signatures are stored, so the hash family must never change between runs
+    private static final long[] A = new long[SIZE];
+    private static final long[] B = new long[SIZE];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for (int i = 0; i < SIZE; i++) {
+            A[i] = random.nextLong() | 1;
+            B[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /** Signature of the text, or null when it has no words. */
+    public static int[] signature(CharSequence text) {
+        List<String> words = FullTextIndex.tokenize(text == null ? null : text.toString());
+        if (words.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, words.size() - SHINGLE_WORDS + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0;
+            for (int w = start; w < Math.min(words.size(), start + SHINGLE_WORDS); w++) {
+                shingle = mix(shingle * 31 + words.get(w).hashCode());
+            }
+            for (int i = 0; i < SIZE; i++) {
+                int hash = (int) ((A[i] * shingle + B[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /** Estimated Jaccard similarity of the two shingle sets. */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE * Integer.BYTES) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    // SplitMix64 finalizer, so similar shingles land far apart
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
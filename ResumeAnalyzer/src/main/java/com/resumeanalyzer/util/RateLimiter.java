@@ -0,0 +1,95 @@
+package com.resumeanalyzer.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets kept as GCRA state: one "theoretical arrival time" per key in
+ * an {@link AtomicLong}, so a decision is a single compare-and-set with no
+ * lock and no refill thread. A limit of {@code n} per period with burst
+ * {@code b} admits {@code b} requests at once and then one every
+ * {@code period / n}. Buckets that have been full for longer than the idle
+ * expiry are dropped by an occasional sweep piggybacked on requests.
+ */
+public final class RateLimiter {
+
+    public record Limit(long permits, long periodNanos, long burst) {
+
+        public Limit {
+            if (permits <= 0 || periodNanos <= 0 || burst <= 0) {
+                throw new IllegalArgumentException("Rate limit permits, period and burst must be positive");
+            }
+        }
+
+        public static Limit perMinute(long permits, long burst) {
+            return new Limit(permits, TimeUnit.MINUTES.toNanos(1), burst);
+        }
+
+        long intervalNanos() {
+            return periodNanos / permits;
+        }
+
+        // How far ahead of now the arrival time may run: the burst minus the request being admitted
+        long toleranceNanos() {
+            return intervalNanos() * (burst - 1);
+        }
+    }
+
+    /**
+     * Outcome of one request. {@code resetNanos} is the time until the bucket
+     * is full again; {@code retryAfterNanos} is zero when allowed.
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetNanos, long retryAfterNanos) {}
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long idleNanos;
+    private final AtomicLong nextSweep;
+
+    public RateLimiter(long idleNanos, long nowNanos) {
+        this.idleNanos = idleNanos;
+        this.nextSweep = new AtomicLong(nowNanos + idleNanos);
+    }
+
+    public Decision acquire(String key, Limit limit, long nowNanos) {
+        return acquire(key, limit, 1, nowNanos);
+    }
+
+    /**
+     * Charges {@code permits} at once, e.g. one per file of a batch. A batch is
+     * admitted whenever a single request would be, and the bucket then stays
+     * empty until the whole cost has been paid back.
+     */
+    public Decision acquire(String key, Limit limit, long permits, long nowNanos) {
+        sweepIfDue(nowNanos);
+        long interval = limit.intervalNanos();
+        long tolerance = limit.toleranceNanos();
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, nowNanos);
+            if (start - nowNanos > tolerance) {
+                return new Decision(false, limit.burst(), 0, start - nowNanos, start - nowNanos - tolerance);
+            }
+            long next = start + interval * Math.max(1, permits);
+            if (bucket.compareAndSet(tat, next)) {
+                long remaining = Math.max(0, (tolerance - (next - interval - nowNanos)) / interval);
+                return new Decision(true, limit.burst(), remaining, next - nowNanos, 0);
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // One thread at a time wins the sweep; a bucket is only dropped while it is still idle
+    private void sweepIfDue(long nowNanos) {
+        long due = nextSweep.get();
+        if (nowNanos - due < 0 || !nextSweep.compareAndSet(due, nowNanos + idleNanos)) {
+            return;
+        }
+        buckets.entrySet().removeIf(entry -> nowNanos - entry.getValue().get() > idleNanos);
+    }
+}
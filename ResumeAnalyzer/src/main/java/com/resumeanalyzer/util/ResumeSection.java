@@ -0,0 +1,42 @@
+package com.resumeanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResumeSection {
+
+    public enum Type {
+        HEADER, SUMMARY, EDUCATION, EXPERIENCE, PROJECTS, SKILLS, ACHIEVEMENTS, PUBLICATIONS
+    }
+
+    private final Type type;
+    private final String heading;
+    private final String body;
+
+    public ResumeSection(Type type, String heading, String body) {
+        this.type = type;
+        this.heading = heading;
+        this.body = body;
+    }
+
+    public Type getType() { return type; }
+    public String getHeading() { return heading; }
+    public String getBody() { return body; }
+
+    // Non-empty, trimmed lines of the section body
+    public List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        int length = body.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || body.charAt(i) == '\n') {
+                String line = body.substring(start, i).trim();
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+                start = i + 1;
+            }
+        }
+        return lines;
+    }
+}
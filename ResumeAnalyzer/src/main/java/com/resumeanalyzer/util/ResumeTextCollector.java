@@ -0,0 +1,155 @@
+package com.resumeanalyzer.util;
+
+import org.apache.tika.sax.BodyContentHandler;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Fans extracted text out to the section segmenter and the skill scan while
+ * enforcing the character and page budgets of a single parse. Once a budget is
+ * spent the collector stops accepting text and throws {@link LimitReachedException}
+ * so the producer can stop early; whatever was collected so far is kept.
+ * A caller that no longer needs the result can cancel the parse through the
+ * supplied check, which makes the next append throw {@link CancelledException}.
+ */
+public class ResumeTextCollector implements TextSink {
+
+    public static class LimitReachedException extends RuntimeException {
+        public LimitReachedException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    public static class CancelledException extends RuntimeException {
+        public CancelledException() {
+            super("Parse cancelled", null, false, false);
+        }
+    }
+
+    private final SectionSegmenter segmenter;
+    private final SkillMatcher.Scan skillScan;
+    private final long maxChars;
+    private final int maxPages;
+    private final BooleanSupplier cancelled;
+
+    private long chars;
+    private int pages;
+    private boolean truncated;
+
+    public ResumeTextCollector(SkillMatcher skillMatcher, long maxChars, int maxPages) {
+        this(skillMatcher, maxChars, maxPages, () -> false);
+    }
+
+    public ResumeTextCollector(SkillMatcher skillMatcher, long maxChars, int maxPages, BooleanSupplier cancelled) {
+        this.segmenter = new SectionSegmenter();
+        this.skillScan = skillMatcher.newScan();
+        this.maxChars = maxChars;
+        this.maxPages = maxPages;
+        this.cancelled = cancelled;
+    }
+
+    @Override
+    public void append(char[] text, int start, int length) {
+        checkCancelled();
+        if (truncated) {
+            throw new LimitReachedException("Character budget of " + maxChars + " reached");
+        }
+        int accepted = (int) Math.min(length, maxChars - chars);
+        segmenter.append(text, start, accepted);
+        skillScan.append(text, start, accepted);
+        chars += accepted;
+        if (accepted < length) {
+            truncated = true;
+            throw new LimitReachedException("Character budget of " + maxChars + " reached");
+        }
+    }
+
+    public void append(String text) {
+        append(text.toCharArray(), 0, text.length());
+    }
+
+    // Called by extractors at every page break
+    public void startPage() {
+        checkCancelled();
+        if (pages >= maxPages) {
+            truncated = true;
+            throw new LimitReachedException("Page budget of " + maxPages + " reached");
+        }
+        pages++;
+    }
+
+    // Also safe to call from helper threads that extract on behalf of this collector
+    public void checkCancelled() {
+        if (cancelled.getAsBoolean()) {
+            throw new CancelledException();
+        }
+    }
+
+    public boolean isTruncated() { return truncated; }
+    public long getMaxChars() { return maxChars; }
+    public int getMaxPages() { return maxPages; }
+    public long getCharCount() { return chars; }
+    public int getPageCount() { return pages; }
+
+    public SegmentedResume finishSections() {
+        return segmenter.finish();
+    }
+
+    public List<String> finishSkills() {
+        return skillScan.finish();
+    }
+
+    // Writer adapter for extractors that render text into a Writer
+    public Writer asWriter() {
+        return new Writer() {
+            @Override
+            public void write(char[] chars, int start, int length) {
+                ResumeTextCollector.this.append(chars, start, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    // SAX adapter for Tika: body text only, with one page per <div class="page">
+    public ContentHandler asContentHandler() {
+        return new BodyContentHandler(new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+                if ("div".equals(localName) && "page".equals(atts.getValue("class"))) {
+                    try {
+                        startPage();
+                    } catch (LimitReachedException | CancelledException e) {
+                        throw new SAXException(e); // aborts the Tika parse
+                    }
+                }
+            }
+
+            @Override
+            public void characters(char[] ch, int start, int length) throws SAXException {
+                try {
+                    append(ch, start, length);
+                } catch (LimitReachedException | CancelledException e) {
+                    throw new SAXException(e);
+                }
+            }
+
+            @Override
+            public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+                characters(ch, start, length);
+            }
+        });
+    }
+}
@@ -0,0 +1,172 @@
+package com.resumeanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits resume text into headed sections in a single pass. Text can be fed
+ * incrementally, so extractors can push characters as they are produced.
+ */
+public class SectionSegmenter implements TextSink {
+
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    private static final Map<String, ResumeSection.Type> HEADINGS = new LinkedHashMap<>();
+
+    static {
+        heading(ResumeSection.Type.SUMMARY, "summary", "about me", "profile", "objective", "career objective",
+                "professional summary", "career summary", "executive summary", "professional profile",
+                "summary of qualifications");
+        heading(ResumeSection.Type.EDUCATION, "education", "academic background", "qualification", "qualifications",
+                "degree", "degrees", "certification", "certifications", "educational background",
+                "academic qualifications", "education and training", "education & training",
+                "licenses and certifications", "licenses & certifications");
+        heading(ResumeSection.Type.EXPERIENCE, "experience", "work", "work experience", "employment", "internship",
+                "internships", "professional experience", "relevant experience", "work history",
+                "employment history", "career history");
+        heading(ResumeSection.Type.PROJECTS, "project", "projects", "portfolio", "key projects", "personal projects",
+                "academic projects", "selected projects", "side projects");
+        heading(ResumeSection.Type.SKILLS, "skills", "technical skills", "key skills", "core skills",
+                "core competencies", "skills summary");
+        heading(ResumeSection.Type.ACHIEVEMENTS, "achievements", "awards", "honors", "honors and awards",
+                "awards and achievements", "key achievements");
+        heading(ResumeSection.Type.PUBLICATIONS, "publications", "selected publications");
+    }
+
+    private static void heading(ResumeSection.Type type, String... keywords) {
+        for (String keyword : keywords) {
+            HEADINGS.put(keyword, type);
+        }
+    }
+
+    private final StringBuilder text = new StringBuilder();
+    private final List<int[]> bounds = new ArrayList<>();
+    private final List<ResumeSection.Type> types = new ArrayList<>();
+    private final List<String> headings = new ArrayList<>();
+
+    private ResumeSection.Type currentType = ResumeSection.Type.HEADER;
+    private String currentHeading;
+    private int currentBodyStart;
+    private int lineStart;
+
+    public static SegmentedResume segment(String text) {
+        return new SectionSegmenter().append(text).finish();
+    }
+
+    public SectionSegmenter append(CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            append(chars.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public void append(char[] chars, int start, int length) {
+        for (int i = start; i < start + length; i++) {
+            append(chars[i]);
+        }
+    }
+
+    private void append(char c) {
+        text.append(c);
+        if (c == '\n') {
+            endLine(text.length() - 1);
+        }
+    }
+
+    public int length() {
+        return text.length();
+    }
+
+    public SegmentedResume finish() {
+        if (lineStart < text.length()) {
+            endLine(text.length());
+        }
+        closeSection(text.length());
+
+        String content = text.toString();
+        List<ResumeSection> sections = new ArrayList<>(bounds.size());
+        for (int i = 0; i < bounds.size(); i++) {
+            int[] range = bounds.get(i);
+            sections.add(new ResumeSection(types.get(i), headings.get(i), content.substring(range[0], range[1])));
+        }
+        return new SegmentedResume(content, sections);
+    }
+
+    private void endLine(int lineEnd) {
+        ResumeSection.Type type = classify(lineStart, lineEnd);
+        if (type != null) {
+            closeSection(lineStart);
+            currentType = type;
+            currentHeading = text.substring(lineStart, lineEnd).trim();
+            currentBodyStart = Math.min(lineEnd + 1, text.length());
+        }
+        lineStart = lineEnd + 1;
+    }
+
+    private void closeSection(int end) {
+        if (currentType == ResumeSection.Type.HEADER && end <= currentBodyStart) {
+            return; // no text before the first heading
+        }
+        bounds.add(new int[] {currentBodyStart, Math.max(currentBodyStart, end)});
+        types.add(currentType);
+        headings.add(currentHeading);
+    }
+
+    /**
+     * Returns the section type when the line looks like a heading, otherwise
+     * null. A line that is exactly a known heading always counts. A line that
+     * only starts or ends with one ("Research Projects", "TECHNICAL SKILLS AND
+     * TOOLS") also needs a heading cue: all capitals or a trailing colon. That
+     * keeps content lines such as "Project Manager" or "Bachelor of Science
+     * Degree" inside their section.
+     */
+    private ResumeSection.Type classify(int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        boolean colon = false;
+        while (end > start && (Character.isWhitespace(text.charAt(end - 1)) || text.charAt(end - 1) == ':')) {
+            colon |= text.charAt(end - 1) == ':';
+            end--;
+        }
+
+        int length = end - start;
+        if (length == 0 || length > MAX_HEADING_LENGTH) {
+            return null;
+        }
+
+        char[] key = new char[length];
+        boolean upperCase = true;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(start + i);
+            if (!Character.isLetter(c) && c != ' ' && c != '&' && c != '/' && c != '-' && c != '\'') {
+                return null; // headings are short runs of words, not sentences
+            }
+            upperCase &= !Character.isLowerCase(c);
+            key[i] = Character.toLowerCase(c);
+        }
+
+        String heading = new String(key);
+        ResumeSection.Type type = HEADINGS.get(heading);
+        if (type != null || !(colon || upperCase)) {
+            return type;
+        }
+        for (Map.Entry<String, ResumeSection.Type> entry : HEADINGS.entrySet()) {
+            String keyword = entry.getKey();
+            if (heading.startsWith(keyword) && heading.length() > keyword.length()
+                    && heading.charAt(keyword.length()) == ' ') {
+                return entry.getValue();
+            }
+        }
+        for (Map.Entry<String, ResumeSection.Type> entry : HEADINGS.entrySet()) {
+            String keyword = entry.getKey();
+            int offset = heading.length() - keyword.length();
+            if (offset > 0 && heading.endsWith(keyword) && heading.charAt(offset - 1) == ' ') {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
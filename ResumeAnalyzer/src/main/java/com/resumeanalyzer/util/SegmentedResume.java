@@ -0,0 +1,37 @@
+package com.resumeanalyzer.util;
+
+import java.util.List;
+import java.util.Optional;
+
+public class SegmentedResume {
+
+    private final String text;
+    private final List<ResumeSection> sections;
+
+    public SegmentedResume(String text, List<ResumeSection> sections) {
+        this.text = text;
+        this.sections = List.copyOf(sections);
+    }
+
+    public String getText() { return text; }
+    public List<ResumeSection> getSections() { return sections; }
+
+    public Optional<ResumeSection> first(ResumeSection.Type type) {
+        for (ResumeSection section : sections) {
+            if (section.getType() == type) {
+                return Optional.of(section);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Every section of the type in document order, e.g. "Education" and a later "Certifications"
+    public List<ResumeSection> all(ResumeSection.Type type) {
+        return sections.stream().filter(section -> section.getType() == type).toList();
+    }
+
+    // Non-empty lines of every section of the type, in document order
+    public List<String> lines(ResumeSection.Type type) {
+        return all(type).stream().flatMap(section -> section.lines().stream()).toList();
+    }
+}
@@ -0,0 +1,290 @@
+package com.resumeanalyzer.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over a skill dictionary. Matching is case-insensitive,
+ * respects word boundaries and reports canonical skill names, so aliases such
+ * as "k8s" resolve to "Kubernetes". The automaton is immutable and can be
+ * shared between threads; each document gets its own {@link Scan}.
+ */
+public final class SkillMatcher {
+
+    private final String version;
+    private final String[] skills;
+    private final int[] termSkill;
+    private final int[] termLength;
+    private final int maxTermLength;
+
+    // Trie edges in compressed-row layout: the edges of node n are [edgeStart[n], edgeStart[n + 1])
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] nodeTerm;
+    private final int[] outputLink;
+
+    private SkillMatcher(String version, Map<String, List<String>> dictionary) {
+        this.version = version;
+
+        List<String> skillNames = new ArrayList<>(dictionary.keySet());
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        for (int skill = 0; skill < skillNames.size(); skill++) {
+            String canonical = skillNames.get(skill);
+            terms.put(normalize(canonical), skill);
+            for (String alias : dictionary.get(canonical)) {
+                String term = normalize(alias);
+                if (!term.isEmpty()) {
+                    terms.put(term, skill);
+                }
+            }
+        }
+
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(-1);
+
+        this.termSkill = new int[terms.size()];
+        this.termLength = new int[terms.size()];
+        int longest = 0;
+        int termIndex = 0;
+        for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+            String term = entry.getKey();
+            int node = 0;
+            for (int i = 0; i < term.length(); i++) {
+                Integer next = children.get(node).get(term.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(-1);
+                    children.get(node).put(term.charAt(i), next);
+                }
+                node = next;
+            }
+            terminal.set(node, termIndex);
+            termSkill[termIndex] = entry.getValue();
+            termLength[termIndex] = term.length();
+            longest = Math.max(longest, term.length());
+            termIndex++;
+        }
+
+        int nodes = children.size();
+        int edges = nodes - 1;
+        this.skills = skillNames.toArray(new String[0]);
+        this.maxTermLength = longest;
+        this.edgeStart = new int[nodes + 1];
+        this.edgeChars = new char[edges];
+        this.edgeTargets = new int[edges];
+        this.nodeTerm = new int[nodes];
+        int edge = 0;
+        for (int node = 0; node < nodes; node++) {
+            edgeStart[node] = edge;
+            nodeTerm[node] = terminal.get(node);
+            for (Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+                edgeChars[edge] = child.getKey();
+                edgeTargets[edge] = child.getValue();
+                edge++;
+            }
+        }
+        edgeStart[nodes] = edge;
+
+        // Breadth-first pass to link every node to its longest proper suffix in the trie
+        this.fail = new int[nodes];
+        this.outputLink = new int[nodes];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            queue.add(edgeTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTargets[e];
+                int suffix = step(fail[node], edgeChars[e]);
+                fail[child] = suffix;
+                outputLink[child] = nodeTerm[suffix] >= 0 ? suffix : outputLink[suffix];
+                queue.add(child);
+            }
+        }
+    }
+
+    public static SkillMatcher compile(String version, Map<String, List<String>> dictionary) {
+        return new SkillMatcher(version, dictionary);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return skills.length;
+    }
+
+    public Scan newScan() {
+        return new Scan();
+    }
+
+    public List<String> match(CharSequence text) {
+        Scan scan = newScan();
+        scan.append(text);
+        return scan.finish();
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            int next = transition(state, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int transition(int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char edge = edgeChars[mid];
+            if (edge < c) {
+                low = mid + 1;
+            } else if (edge > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static char fold(char c) {
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    static String normalize(String term) {
+        StringBuilder normalized = new StringBuilder(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            char c = fold(term.charAt(i));
+            if (c != ' ' || (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != ' ')) {
+                normalized.append(c);
+            }
+        }
+        int end = normalized.length();
+        while (end > 0 && normalized.charAt(end - 1) == ' ') end--;
+        normalized.setLength(end);
+        return normalized.toString();
+    }
+
+    /**
+     * Incremental scan over one document. Characters are folded on the fly, so
+     * no lowercased copy of the text is made. Only the last few characters are
+     * kept to check the word boundary in front of a match.
+     */
+    public final class Scan implements TextSink {
+
+        private final char[] window;
+        private final int mask;
+        private final BitSet seen = new BitSet(skills.length);
+        private final List<String> found = new ArrayList<>();
+        private int state;
+        private long position;
+
+        private Scan() {
+            int size = Integer.highestOneBit(Math.max(maxTermLength + 1, 1)) << 1;
+            this.window = new char[size];
+            this.mask = size - 1;
+        }
+
+        @Override
+        public void append(char[] chars, int start, int length) {
+            for (int i = start; i < start + length; i++) {
+                accept(chars[i]);
+            }
+        }
+
+        public void append(CharSequence chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                accept(chars.charAt(i));
+            }
+        }
+
+        private void accept(char raw) {
+            char c = fold(raw);
+            if (c == ' ' && position > 0 && window[(int) ((position - 1) & mask)] == ' ') {
+                return; // runs of whitespace count as one space, like in the dictionary terms
+            }
+            // Matches ending at the previous character are complete once the next one is not a word character
+            if (!isWordChar(c)) {
+                emit();
+            }
+            window[(int) (position & mask)] = c;
+            state = step(state, c);
+            position++;
+        }
+
+        public List<String> finish() {
+            emit();
+            state = 0;
+            return Collections.unmodifiableList(found);
+        }
+
+        private void emit() {
+            int node = nodeTerm[state] >= 0 ? state : outputLink[state];
+            while (node > 0) {
+                int term = nodeTerm[node];
+                long start = position - termLength[term];
+                if (start == 0 || !isWordChar(window[(int) ((start - 1) & mask)])) {
+                    int skill = termSkill[term];
+                    if (!seen.get(skill)) {
+                        seen.set(skill);
+                        found.add(skills[skill]);
+                    }
+                }
+                node = outputLink[node];
+            }
+        }
+    }
+
+    // Parses the "Canonical: alias, alias" dictionary format; lines starting with '#' are comments
+    public static Map<String, List<String>> parseDictionary(List<String> lines) {
+        Map<String, List<String>> dictionary = new LinkedHashMap<>();
+        Map<String, String> canonicalByTerm = new HashMap<>();
+        for (String raw : lines) {
+            String line = raw.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String canonical = (colon >= 0 ? line.substring(0, colon) : line).trim();
+            if (canonical.isEmpty()) {
+                continue;
+            }
+            String existing = canonicalByTerm.putIfAbsent(normalize(canonical), canonical);
+            List<String> aliases = dictionary.computeIfAbsent(existing != null ? existing : canonical,
+                    key -> new ArrayList<>());
+            if (colon >= 0) {
+                for (String alias : line.substring(colon + 1).split(",")) {
+                    if (!alias.isBlank()) {
+                        aliases.add(alias.trim());
+                    }
+                }
+            }
+        }
+        return dictionary;
+    }
+}
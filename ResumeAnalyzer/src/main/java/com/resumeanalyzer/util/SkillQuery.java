@@ -0,0 +1,176 @@
+package com.resumeanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Boolean expression over skill names, e.g. {@code Java AND (Kafka OR RabbitMQ) AND NOT PHP}.
+ * NOT binds tighter than AND, which binds tighter than OR. Operators are
+ * case-sensitive keywords (or {@code &&}, {@code ||}, {@code !}); consecutive
+ * other words form one skill name, so {@code Spring Boot AND Docker} works.
+ * Skill names may also be quoted.
+ */
+public final class SkillQuery {
+
+    private interface Node {
+        IdBitmap evaluate(Function<String, IdBitmap> lookup, IdBitmap universe);
+    }
+
+    private final Node root;
+    private final List<String> skills;
+
+    private SkillQuery(Node root, List<String> skills) {
+        this.root = root;
+        this.skills = skills;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    /**
+     * Evaluates the expression. {@code skills} returns the bitmap of a skill
+     * name (or an empty one); {@code universe} is what NOT subtracts from.
+     */
+    public IdBitmap evaluate(Function<String, IdBitmap> skills, IdBitmap universe) {
+        return root.evaluate(skills, universe);
+    }
+
+    public static SkillQuery parse(String expression) {
+        Parser parser = new Parser(tokenize(expression == null ? "" : expression));
+        Node root = parser.or();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.tokens.get(parser.position) + "' in skill query");
+        }
+        return new SkillQuery(root, List.copyOf(parser.skills));
+    }
+
+    // Operators and parentheses become their own tokens; skill names are prefixed with a quote
+    private static List<String> tokenize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder skill = new StringBuilder();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == '!') {
+                flush(skill, tokens);
+                tokens.add(c == '!' ? "NOT" : String.valueOf(c));
+                i++;
+            } else if (expression.startsWith("&&", i) || expression.startsWith("||", i)) {
+                flush(skill, tokens);
+                tokens.add(c == '&' ? "AND" : "OR");
+                i += 2;
+            } else if (c == '"') {
+                flush(skill, tokens);
+                int end = expression.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated quote in skill query");
+                }
+                skill.append(expression, i + 1, end);
+                flush(skill, tokens);
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < expression.length() && !Character.isWhitespace(expression.charAt(end))
+                        && "()!\"".indexOf(expression.charAt(end)) < 0
+                        && !expression.startsWith("&&", end) && !expression.startsWith("||", end)) {
+                    end++;
+                }
+                String word = expression.substring(i, end);
+                if (word.equals("AND") || word.equals("OR") || word.equals("NOT")) {
+                    flush(skill, tokens);
+                    tokens.add(word);
+                } else {
+                    if (skill.length() > 0) {
+                        skill.append(' ');
+                    }
+                    skill.append(word);
+                }
+                i = end;
+            }
+        }
+        flush(skill, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder skill, List<String> tokens) {
+        String name = skill.toString().trim();
+        if (!name.isEmpty()) {
+            tokens.add("\"" + name);
+        }
+        skill.setLength(0);
+    }
+
+    private static final class Parser {
+        private final List<String> tokens;
+        private final List<String> skills = new ArrayList<>();
+        private int position;
+
+        Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        Node or() {
+            Node left = and();
+            while (accept("OR")) {
+                Node l = left;
+                Node r = and();
+                left = (lookup, universe) -> IdBitmap.or(l.evaluate(lookup, universe), r.evaluate(lookup, universe));
+            }
+            return left;
+        }
+
+        Node and() {
+            Node left = not();
+            while (accept("AND")) {
+                Node l = left;
+                Node r = not();
+                left = (lookup, universe) -> {
+                    IdBitmap result = l.evaluate(lookup, universe);
+                    // Nothing left to intersect with, skip the right-hand side
+                    return result.isEmpty() ? result : IdBitmap.and(result, r.evaluate(lookup, universe));
+                };
+            }
+            return left;
+        }
+
+        Node not() {
+            if (accept("NOT")) {
+                Node operand = not();
+                return (lookup, universe) -> IdBitmap.andNot(universe, operand.evaluate(lookup, universe));
+            }
+            return primary();
+        }
+
+        Node primary() {
+            if (position == tokens.size()) {
+                throw new IllegalArgumentException(tokens.isEmpty() ? "Skill query is empty" : "Skill query ended unexpectedly");
+            }
+            String token = tokens.get(position++);
+            if (token.equals("(")) {
+                Node inner = or();
+                if (!accept(")")) {
+                    throw new IllegalArgumentException("Missing ')' in skill query");
+                }
+                return inner;
+            }
+            if (!token.startsWith("\"")) {
+                throw new IllegalArgumentException("Unexpected '" + token + "' in skill query");
+            }
+            String name = token.substring(1);
+            skills.add(name);
+            return (lookup, universe) -> lookup.apply(name);
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
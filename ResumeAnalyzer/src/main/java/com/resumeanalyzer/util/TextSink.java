@@ -0,0 +1,6 @@
+package com.resumeanalyzer.util;
+
+// Receives document text as it is extracted, one chunk at a time
+public interface TextSink {
+    void append(char[] chars, int start, int length);
+}
@@ -0,0 +1,361 @@
+package com.resumeanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Typo-tolerant lookup of short values such as names and emails. Every value
+ * is cut into character trigrams of its words, padded like pg_trgm ("john"
+ * gives {@code "  j", " jo", "joh", "ohn", "hn "}), with one sorted id list
+ * per trigram. A search keeps the documents that share at least a threshold
+ * fraction of the query's trigrams and reranks them by edit distance.
+ * <p>
+ * Candidates are generated from the rarest query trigrams only: a document
+ * that shares {@code t} of the query's {@code n} trigrams must appear in at
+ * least one of any {@code n - t + 1} of their lists, so the very common
+ * trigrams are only probed by binary search for documents already found.
+ * When even the rarest lists hold more than the search may read, the
+ * threshold is kept and the result is marked as truncated instead.
+ */
+public final class TrigramIndex {
+
+    public record Match(long id, String value, int distance, double overlap) {}
+
+    // Truncated when the work bounds cut the search short, so a closer match may have been missed
+    public record Result(List<Match> matches, boolean truncated) {}
+
+    private static final Comparator<Match> BEST_FIRST = Comparator.comparingInt(Match::distance)
+        .thenComparing(Comparator.comparingDouble(Match::overlap).reversed())
+        .thenComparingLong(Match::id);
+
+    // Bounds on the work per search: ids read from the candidate lists, and candidates scored by edit distance
+    private static final int MAX_CANDIDATE_POSTINGS = 16_384;
+    private static final int MAX_RERANKED = 1024;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Document(String[] values, long[] trigrams) {}
+
+    private record Candidate(long id, double overlap) {}
+
+    /** Adds the document's values, replacing any earlier version with the same id. */
+    public void put(long id, List<String> values) {
+        List<String> normalized = new ArrayList<>();
+        TreeSet<Long> trigrams = new TreeSet<>();
+        for (String value : values) {
+            String text = normalize(value);
+            if (!text.isEmpty() && !normalized.contains(text)) {
+                normalized.add(text);
+                for (long trigram : trigrams(text)) {
+                    trigrams.add(trigram);
+                }
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            long[] codes = trigrams.stream().mapToLong(Long::longValue).toArray();
+            for (long trigram : codes) {
+                postings.computeIfAbsent(trigram, t -> new Postings()).add(id);
+            }
+            documents.put(id, new Document(normalized.toArray(new String[0]), codes));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} closest documents sharing at least {@code threshold} of
+     * the query's trigrams, by edit distance to their best matching value, then
+     * by Jaccard similarity of the trigram sets, reported as the overlap. Only
+     * ids accepted by the filter are considered, and only those count towards
+     * the bound on candidate postings.
+     */
+    public Result search(String query, double threshold, int limit, LongPredicate filter) {
+        String text = normalize(query);
+        long[] grams = trigrams(text);
+        if (grams.length == 0 || limit <= 0) {
+            return new Result(List.of(), false);
+        }
+        int required = Math.max(1, (int) Math.ceil(Math.min(1, threshold) * grams.length));
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[grams.length];
+            int[] sizes = new int[grams.length];
+            Integer[] order = new Integer[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                sizes[i] = lists[i] == null ? 0 : lists[i].size;
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> sizes[i]));
+
+            // Ids the filter accepts from the rarest lists, sorted so that equal ids form runs. Past the
+            // cap the rest of a list is left unread: it is still probed for the ids found so far, but ids
+            // only it holds are missed, and the result says so.
+            int generators = grams.length - required + 1;
+            int[] readUpTo = new int[grams.length];
+            long[] found = new long[Math.min(MAX_CANDIDATE_POSTINGS, 1024)];
+            int total = 0;
+            boolean truncated = false;
+            for (int g = 0; g < generators && !truncated; g++) {
+                Postings list = lists[order[g]];
+                int read = 0;
+                for (; list != null && read < list.size; read++) {
+                    long id = list.ids[read];
+                    if (!filter.test(id)) {
+                        continue;
+                    }
+                    if (total == MAX_CANDIDATE_POSTINGS) {
+                        truncated = true;
+                        break;
+                    }
+                    if (total == found.length) {
+                        found = Arrays.copyOf(found, Math.min(MAX_CANDIDATE_POSTINGS, total * 2));
+                    }
+                    found[total++] = id;
+                }
+                readUpTo[g] = read;
+            }
+            Arrays.sort(found, 0, total);
+
+            List<Candidate> candidates = new ArrayList<>();
+            for (int i = 0; i < total; ) {
+                long id = found[i];
+                int shared = 0;
+                while (i < total && found[i] == id) {
+                    shared++;
+                    i++;
+                }
+                // Probe the unread part of every list only while the document can still reach the required count
+                for (int g = 0; g < grams.length && shared + grams.length - g >= required; g++) {
+                    Postings list = lists[order[g]];
+                    if (list != null && readUpTo[g] < list.size
+                            && Arrays.binarySearch(list.ids, readUpTo[g], list.size, id) >= 0) {
+                        shared++;
+                    }
+                }
+                if (shared >= required) {
+                    // Jaccard similarity of the trigram sets, so extra words in the value count against it
+                    int own = documents.get(id).trigrams().length;
+                    candidates.add(new Candidate(id, (double) shared / (grams.length + own - shared)));
+                }
+            }
+
+            // Best overlap first, so the heap fills with good matches and the distance cutoff tightens early
+            candidates.sort(Comparator.comparingDouble(Candidate::overlap).reversed().thenComparingLong(Candidate::id));
+            PriorityQueue<Match> heap = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+            for (Candidate candidate : candidates.subList(0, Math.min(candidates.size(), MAX_RERANKED))) {
+                // A later candidate has no better overlap, so it must beat the worst kept distance outright
+                int cutoff = heap.size() < limit ? Integer.MAX_VALUE - 1 : heap.peek().distance() - 1;
+                if (cutoff < 0) {
+                    break;
+                }
+                String best = null;
+                int distance = cutoff + 1;
+                for (String value : documents.get(candidate.id()).values()) {
+                    int d = distance(text, value, Math.min(cutoff, distance - 1));
+                    if (d < distance) {
+                        distance = d;
+                        best = value;
+                    }
+                }
+                if (best != null) {
+                    heap.add(new Match(candidate.id(), best, distance, candidate.overlap()));
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            }
+            List<Match> matches = new ArrayList<>(heap);
+            matches.sort(BEST_FIRST);
+            return new Result(matches, truncated || candidates.size() > MAX_RERANKED);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Lower case, with every run of characters other than letters and digits turned into one space. */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(value.length());
+        boolean space = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && out.length() > 0) {
+                    out.append(' ');
+                }
+                out.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Optimal string alignment distance between the query and the value, or
+     * between the query and the run of as many consecutive words of the value,
+     * whichever is smaller, so "smtih" is one edit from "john smith". Returns
+     * {@code max + 1} as soon as the distance is known to exceed {@code max}.
+     */
+    static int distance(String query, String value, int max) {
+        int best = osa(query, value, max);
+        String[] words = value.split(" ");
+        int span = query.split(" ").length;
+        for (int from = 0; words.length > span && from + span <= words.length; from++) {
+            String window = String.join(" ", Arrays.asList(words).subList(from, from + span));
+            best = Math.min(best, osa(query, window, Math.min(max, best - 1)));
+        }
+        return best;
+    }
+
+    private static int osa(String a, String b, int max) {
+        if (max < 0 || Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        int[] before = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, before[j - 2] + 1);
+                }
+                current[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = before;
+            before = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    // Distinct trigram codes of the normalized text, three 16-bit chars packed into a long
+    static long[] trigrams(String text) {
+        TreeSet<Long> codes = new TreeSet<>();
+        for (String word : text.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                codes.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return codes.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private boolean removeLocked(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return false;
+        }
+        for (long trigram : document.trigrams()) {
+            Postings list = postings.get(trigram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+        return true;
+    }
+
+    // Sorted, growable id array; ids mostly arrive in increasing order, so adds are usually appends
+    private static final class Postings {
+        private long[] ids = new long[2];
+        private int size;
+
+        void add(long id) {
+            int at = size == 0 || ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                return;
+            }
+            at = -(at + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.resumeanalyzer.util;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A JWT whose signature has been checked, reduced to the claims authentication
+ * uses. Immutable, so one instance can be shared by every request that presents
+ * the same token.
+ */
+public record VerifiedToken(String username, List<String> authorities, Date issuedAt, Date expiration) {
+
+    public VerifiedToken {
+        authorities = List.copyOf(authorities);
+        issuedAt = issuedAt == null ? null : new Date(issuedAt.getTime());
+        expiration = expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    @Override
+    public Date issuedAt() {
+        return issuedAt == null ? null : new Date(issuedAt.getTime());
+    }
+
+    @Override
+    public Date expiration() {
+        return expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+}
@@ -0,0 +1,107 @@
+package com.resumeanalyzer.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.mock.web.MockPart;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    // Users get a burst of 2, admins 4; both refill once a minute so nothing refills mid-test
+    private final RateLimitFilter filter = new RateLimitFilter(true,
+            new String[] {"/api/resume/upload", "/api/resume/bulk"}, 1, 2, 1, 4, 262144, 600);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void login(String username, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void testFilter_PicksLimitByRoleAndSetsHeaders() throws Exception {
+        login("alice", "ROLE_USER");
+        MockHttpServletResponse first = send(request("/api/resume/upload"), new MockFilterChain());
+        assertEquals(200, first.getStatus());
+        assertEquals("2", first.getHeader("RateLimit-Limit"));
+        assertEquals("1", first.getHeader("RateLimit-Remaining"));
+        assertEquals("60", first.getHeader("RateLimit-Reset"));
+
+        login("root", "ROLE_ADMIN");
+        MockHttpServletResponse admin = send(request("/api/resume/upload"), new MockFilterChain());
+        assertEquals("4", admin.getHeader("RateLimit-Limit"));
+        assertEquals("3", admin.getHeader("RateLimit-Remaining"));
+    }
+
+    @Test
+    void testFilter_RejectsExhaustedBucketWith429() throws Exception {
+        login("alice", "ROLE_USER");
+        send(request("/api/resume/upload"), new MockFilterChain());
+        send(request("/api/resume/upload"), new MockFilterChain());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse rejected = send(request("/api/resume/upload"), chain);
+        assertNull(chain.getRequest());
+        assertEquals(429, rejected.getStatus());
+        assertEquals("0", rejected.getHeader("RateLimit-Remaining"));
+        assertEquals("60", rejected.getHeader("Retry-After"));
+        assertEquals("application/json", rejected.getContentType());
+        assertTrue(rejected.getContentAsString().contains("\"error\":\"Too Many Requests\""));
+        assertEquals(1L, filter.getStats().get("rejected"));
+    }
+
+    @Test
+    void testFilter_ChargesBulkUploadsPerFile() throws Exception {
+        login("alice", "ROLE_USER");
+        MockMultipartHttpServletRequest bulk = new MockMultipartHttpServletRequest();
+        bulk.setMethod("POST");
+        bulk.setServletPath("/api/resume/bulk");
+        for (String name : List.of("a.pdf", "b.pdf", "c.pdf")) {
+            bulk.addPart(new MockPart("files", name, "resume".getBytes()));
+        }
+
+        MockHttpServletResponse batch = send(bulk, new MockFilterChain());
+        assertEquals(200, batch.getStatus());
+        assertEquals("0", batch.getHeader("RateLimit-Remaining"));
+        assertEquals("180", batch.getHeader("RateLimit-Reset"));
+
+        // The three files used up the bucket and then some, so the next request waits for them
+        MockHttpServletResponse next = send(request("/api/resume/bulk"), new MockFilterChain());
+        assertEquals(429, next.getStatus());
+        assertEquals("120", next.getHeader("Retry-After"));
+    }
+
+    @Test
+    void testFilter_SkipsPathsThatAreNotLimited() throws Exception {
+        login("alice", "ROLE_USER");
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send(request("/api/resume/my"), chain);
+        assertNotNull(chain.getRequest());
+        assertNull(response.getHeader("RateLimit-Limit"));
+    }
+}
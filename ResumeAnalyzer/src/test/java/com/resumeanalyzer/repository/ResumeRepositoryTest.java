@@ -0,0 +1,119 @@
+package com.resumeanalyzer.repository;
+
+import com.resumeanalyzer.dto.CursorPage;
+import com.resumeanalyzer.dto.ResumeSummary;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.service.ResumeService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ResumeRepositoryTest {
+
+    private static final int RESUMES = 20;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < RESUMES; i++) {
+            Resume resume = new Resume();
+            resume.setName("Candidate " + i);
+            resume.setUsername(i % 2 == 0 ? "alice" : "bob");
+            resume.setSkills(List.of("Java", "SQL"));
+            resume.setEducation(List.of("University " + i));
+            resume.setProjects(List.of("Project " + i, "Project " + (i + 1)));
+            entityManager.persist(resume);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFetchCollections_UsesConstantNumberOfQueries() {
+        List<Resume> resumes = resumeRepository.fetchCollections(resumeRepository.findAll());
+
+        assertEquals(RESUMES, resumes.size());
+        for (Resume resume : resumes) {
+            assertEquals(2, resume.getSkills().size());
+            assertEquals(1, resume.getEducation().size());
+            assertEquals(2, resume.getProjects().size());
+        }
+        // One for the resumes, one per element collection
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAll_WithoutFetchIsNPlusOne() {
+        List<Resume> resumes = resumeRepository.findByUsername("alice");
+        resumes.forEach(resume -> resume.getSkills().size());
+
+        assertEquals(1 + resumes.size(), statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testKeysetPages_CoverEveryResumeAtConstantCost() {
+        ResumeService resumeService = new ResumeService(null, "test-bucket", resumeRepository, List.of(), null);
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            CursorPage<Resume> page = resumeService.getResumesByUsername("alice", cursor, 4);
+            page.getItems().forEach(resume -> seen.add(resume.getId()));
+            page.getItems().forEach(resume -> resume.getProjects().size());
+            assertEquals(4, statistics.getPrepareStatementCount());
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        assertEquals(RESUMES / 2, seen.size());
+        assertEquals(seen.stream().sorted().toList(), seen);
+    }
+
+    @Test
+    void testFindByUsernameAndIdIn_DropsOtherUsersRows() {
+        List<Long> ids = resumeRepository.findAll().stream().map(Resume::getId).toList();
+        statistics.clear();
+
+        List<Resume> own = resumeRepository.findByUsernameAndIdIn("alice", ids);
+        assertEquals(RESUMES / 2, own.size());
+        assertTrue(own.stream().allMatch(resume -> resume.getUsername().equals("alice")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSummaryPages_ReadColumnsAndSkillsOnly() {
+        ResumeService resumeService = new ResumeService(null, "test-bucket", resumeRepository, List.of(), null);
+        CursorPage<ResumeSummary> page = resumeService.getAllResumeSummaries(null, 5);
+
+        assertEquals(5, page.getItems().size());
+        assertEquals(List.of("Java", "SQL"), page.getItems().get(0).skills());
+        assertEquals("Candidate 0", page.getItems().get(0).name());
+        assertNotNull(page.getNext());
+        // One for the projected rows, one for their skills
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
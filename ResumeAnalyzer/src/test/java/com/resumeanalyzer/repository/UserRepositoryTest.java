@@ -0,0 +1,42 @@
+package com.resumeanalyzer.repository;
+
+import com.resumeanalyzer.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testUpgradePassword_OnlyReplacesTheCheckedHash() {
+        User user = new User();
+        user.setUsername("alice");
+        user.setPassword("old-hash");
+        user.setRole("ROLE_USER");
+        entityManager.persist(user);
+        entityManager.flush();
+
+        // A role change that lands while the login is hashing is kept
+        entityManager.createQuery("update User u set u.role = 'ROLE_ADMIN' where u.id = :id")
+            .setParameter("id", user.getId())
+            .executeUpdate();
+
+        assertEquals(0, userRepository.upgradePassword(user.getId(), "other-hash", "new-hash"));
+        assertEquals(1, userRepository.upgradePassword(user.getId(), "old-hash", "new-hash"));
+        entityManager.clear();
+
+        User stored = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals("new-hash", stored.getPassword());
+        assertEquals("ROLE_ADMIN", stored.getRole());
+    }
+}
@@ -0,0 +1,96 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateRankingIndexTest {
+
+    private static final List<String> SKILLS = List.of("Java", "Kafka", "Python", "React", "SQL", "Docker");
+    private static final List<String> WORDS = List.of("payments", "streaming", "frontend", "pipelines",
+        "latency", "dashboards", "microservices", "analytics");
+
+    private static Resume resume(long id, String owner, List<String> skills, String summary) {
+        Resume resume = new Resume();
+        resume.setId(id);
+        resume.setUsername(owner);
+        resume.setSkills(skills);
+        resume.setSummary(summary);
+        resume.setProjects(List.of());
+        return resume;
+    }
+
+    @Test
+    void testRank_SkillsAndTextDecideOrder() throws Exception {
+        CandidateRankingIndex index = new CandidateRankingIndex(0.7, 1, 2048);
+        index.index(resume(1, "alice", List.of("Java", "Kafka"), "Built streaming payments microservices"));
+        index.index(resume(2, "alice", List.of("Java"), "Payments platform"));
+        index.index(resume(3, "bob", List.of("Python", "React"), "Analytics dashboards"));
+        index.index(resume(4, "bob", List.of("java", "kafka"), "Frontend work"));
+
+        List<CandidateRankingIndex.Match> top = index.rank(List.of("Java", "Kafka"), "streaming payments", null, 3);
+        assertEquals(List.of(1L, 4L, 2L), top.stream().map(CandidateRankingIndex.Match::resumeId).toList());
+        assertEquals(List.of("Java", "Kafka"), top.get(0).matchedSkills());
+
+        List<CandidateRankingIndex.Match> own = index.rank(List.of("Java", "Kafka"), "streaming payments", "bob", 3);
+        assertEquals(List.of(4L), own.stream().map(CandidateRankingIndex.Match::resumeId).toList());
+
+        index.remove(1L);
+        assertEquals(4L, index.rank(List.of("Java", "Kafka"), "streaming", null, 1).get(0).resumeId());
+        index.shutdown();
+    }
+
+    @Test
+    void testRank_PartitionsAgreeWithSingleScan() throws Exception {
+        CandidateRankingIndex single = new CandidateRankingIndex(0.6, 1, 1_000_000);
+        CandidateRankingIndex parallel = new CandidateRankingIndex(0.6, 4, 10);
+        Random random = new Random(11);
+        for (long id = 1; id <= 500; id++) {
+            List<String> skills = SKILLS.stream().filter(skill -> random.nextInt(3) == 0).toList();
+            String summary = String.join(" ", WORDS.get(random.nextInt(WORDS.size())),
+                WORDS.get(random.nextInt(WORDS.size())), WORDS.get(random.nextInt(WORDS.size())));
+            Resume resume = resume(id, "user" + (id % 3), skills, summary);
+            single.index(resume);
+            parallel.index(resume);
+        }
+
+        List<String> wanted = List.of("Java", "Docker", "SQL");
+        assertEquals(single.rank(wanted, "latency pipelines", null, 25),
+            parallel.rank(wanted, "latency pipelines", null, 25));
+        single.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test
+    void testRemove_PrunesTermsNoProfileUses() throws Exception {
+        CandidateRankingIndex index = new CandidateRankingIndex(0.5, 1, 2048);
+        for (long id = 1; id <= 1500; id++) {
+            index.index(resume(id, "alice", List.of("Java"), "payments " + word(id)));
+        }
+        assertEquals(1501, index.getStats().get("terms"));
+
+        for (long id = 1; id <= 1400; id++) {
+            index.remove(id);
+        }
+        // Compacted once the unused terms outnumbered the live ones; the survivors still score
+        assertTrue((int) index.getStats().get("terms") <= 476);
+        assertEquals(1450L, index.rank(List.of("Java"), "payments " + word(1450), null, 1).get(0).resumeId());
+
+        index.clear();
+        assertEquals(0, index.getStats().get("terms"));
+        index.shutdown();
+    }
+
+    // A distinct letters-only token per id, so the tokenizer keeps it whole
+    private static String word(long id) {
+        StringBuilder word = new StringBuilder("zz");
+        for (long n = id; n > 0; n /= 26) {
+            word.append((char) ('a' + n % 26));
+        }
+        return word.toString();
+    }
+}
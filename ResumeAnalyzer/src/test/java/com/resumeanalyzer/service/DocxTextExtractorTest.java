@@ -0,0 +1,109 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.ResumeTextCollector;
+import com.resumeanalyzer.util.SkillMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocxTextExtractorTest {
+
+    private static final String W = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String R = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final String CONTENT_TYPES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+              <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+              <Default Extension="xml" ContentType="application/xml"/>
+              <Override PartName="/word/document.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml"/>
+              <Override PartName="/word/header1.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.header+xml"/>
+            </Types>""";
+
+    private static final String PACKAGE_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+              <Relationship Id="rId1" Type="%s/officeDocument" Target="word/document.xml"/>
+            </Relationships>""".formatted(R);
+
+    private static final String DOCUMENT_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+              <Relationship Id="rId1" Type="%s/header" Target="header1.xml"/>
+            </Relationships>""".formatted(R);
+
+    private static final String HEADER = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <w:hdr xmlns:w="%s"><w:p><w:r><w:t>jane@example.com</w:t></w:r></w:p></w:hdr>""".formatted(W);
+
+    // The first paragraph defines a tab stop in its properties and uses one tab in its run
+    private static final String DOCUMENT = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <w:document xmlns:w="%s"><w:body>
+              <w:p>
+                <w:pPr><w:tabs><w:tab w:val="left" w:pos="4320"/><w:tab w:val="right" w:pos="9360"/></w:tabs></w:pPr>
+                <w:r><w:t>Jane Doe</w:t><w:tab/><w:t>Engineer</w:t></w:r>
+              </w:p>
+              <w:p><w:r><w:t>Skills</w:t></w:r></w:p>
+              <w:p><w:r><w:t>Java, Kubernetes</w:t><w:br w:type="page"/><w:t>Page two</w:t></w:r></w:p>
+            </w:body></w:document>""".formatted(W);
+
+    private static byte[] docx() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            put(zip, "[Content_Types].xml", CONTENT_TYPES);
+            put(zip, "_rels/.rels", PACKAGE_RELS);
+            put(zip, "word/_rels/document.xml.rels", DOCUMENT_RELS);
+            put(zip, "word/header1.xml", HEADER);
+            put(zip, "word/document.xml", DOCUMENT);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void put(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    // Keeps a copy of everything appended so the emitted text can be checked
+    private static class RecordingCollector extends ResumeTextCollector {
+        final StringBuilder text = new StringBuilder();
+
+        RecordingCollector() {
+            super(SkillMatcher.compile("test", SkillMatcher.parseDictionary(List.of("Java", "Kubernetes"))),
+                    100_000, 10);
+        }
+
+        @Override
+        public void append(char[] chars, int start, int length) {
+            super.append(chars, start, length);
+            text.append(chars, start, length);
+        }
+    }
+
+    @Test
+    void testExtract_EmitsRunTabsButNotTabStops() throws IOException {
+        RecordingCollector collector = new RecordingCollector();
+        new DocxTextExtractor().extract(new DocumentContent(docx(), "cv.docx", null), collector);
+
+        assertEquals("jane@example.com\nJane Doe\tEngineer\nSkills\nJava, Kubernetes\nPage two\n",
+                collector.text.toString());
+        assertEquals(2, collector.getPageCount());
+        assertEquals(List.of("Java", "Kubernetes"), collector.finishSkills());
+    }
+
+    @Test
+    void testExtract_RejectsNonDocxBytes() {
+        DocumentContent notDocx = new DocumentContent("plain text".getBytes(), "cv.docx", null);
+        assertThrows(IOException.class, () -> new DocxTextExtractor().extract(notDocx, new RecordingCollector()));
+    }
+}
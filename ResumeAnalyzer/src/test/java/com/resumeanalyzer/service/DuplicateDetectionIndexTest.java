@@ -0,0 +1,93 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.MinHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateDetectionIndexTest {
+
+    private DuplicateDetectionIndex index;
+    private String original;
+
+    private static String text(Random random, int words) {
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < words; i++) {
+            out.add("w" + random.nextInt(5000));
+        }
+        return String.join(" ", out);
+    }
+
+    // A re-upload with one word changed
+    private static String edit(String text, String word) {
+        String[] words = text.split(" ");
+        words[words.length / 2] = word;
+        return String.join(" ", words);
+    }
+
+    private static Resume resume(long id, String owner, String text) {
+        Resume resume = new Resume();
+        resume.setId(id);
+        resume.setUsername(owner);
+        resume.setTextSignature(MinHash.toBytes(MinHash.signature(text)));
+        return resume;
+    }
+
+    // The way ResumeService saves a resume: prepare, then index once it has an id
+    private Resume save(long id, String owner, String text) {
+        Resume resume = resume(id, owner, text);
+        index.prepare(resume);
+        index.index(resume);
+        return resume;
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateDetectionIndex(0.8);
+        original = text(new Random(5), 400);
+    }
+
+    @Test
+    void testPrepare_LinksToClusterRoot() {
+        assertNull(save(1, "alice", original).getDuplicateOf());
+        assertEquals(1L, save(2, "alice", edit(original, "changed")).getDuplicateOf());
+
+        // Closest to 2, but linked to the first resume of the cluster
+        Resume third = resume(3, "alice", edit(edit(original, "changed"), "again"));
+        index.prepare(third);
+        assertEquals(1L, third.getDuplicateOf());
+
+        assertNull(save(4, "alice", text(new Random(6), 400)).getDuplicateOf());
+        assertEquals(List.of(List.of(1L, 2L)), index.clusters());
+    }
+
+    @Test
+    void testPrepare_IgnoresOtherUsersResumes() {
+        save(1, "alice", original);
+
+        assertNull(save(2, "bob", edit(original, "changed")).getDuplicateOf());
+        assertEquals(2L, save(3, "bob", original).getDuplicateOf());
+
+        // The admin view still groups across users
+        assertEquals(List.of(List.of(1L, 2L, 3L)), index.clusters());
+    }
+
+    @Test
+    void testRemove_UnlinksResume() {
+        save(1, "alice", original);
+        save(2, "alice", edit(original, "changed"));
+
+        index.remove(1L);
+        Resume next = resume(3, "alice", original);
+        index.prepare(next);
+        assertEquals(2L, next.getDuplicateOf());
+        assertEquals(1, index.getStats().get("signatures"));
+        assertEquals(1, index.getStats().get("linkedDuplicates"));
+    }
+}
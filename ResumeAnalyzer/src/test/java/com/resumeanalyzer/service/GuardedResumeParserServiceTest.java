@@ -0,0 +1,94 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.util.DocumentContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GuardedResumeParserServiceTest {
+
+    @Mock
+    private ResumeParserServiceImpl delegate;
+
+    private GuardedResumeParserService parser;
+
+    private final DocumentContent slowDocument = new DocumentContent("slow".getBytes(), "slow.pdf", "application/pdf");
+    private final DocumentContent document = new DocumentContent("fast".getBytes(), "fast.pdf", "application/pdf");
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        parser = new GuardedResumeParserService(delegate, 2, 10, 100, 2, 100);
+
+        // The slow document only finishes once the watchdog cancels it
+        when(delegate.parseResume(eq(slowDocument), any(BooleanSupplier.class))).thenAnswer(invocation -> {
+            BooleanSupplier cancelled = invocation.getArgument(1);
+            while (!cancelled.getAsBoolean()) {
+                Thread.onSpinWait();
+            }
+            throw new IOException("Resume parsing failed: Parse cancelled");
+        });
+        when(delegate.parseResume(eq(document), any(BooleanSupplier.class))).thenReturn(new ResumeDTO());
+    }
+
+    @AfterEach
+    void tearDown() {
+        parser.shutdown();
+    }
+
+    @Test
+    void testParse_TimesOutAndQuarantinesRepeatOffenders() throws IOException {
+        IOException first = assertThrows(IOException.class, () -> parser.parseResume(slowDocument));
+        assertTrue(first.getMessage().contains("timed out"));
+        assertThrows(IOException.class, () -> parser.parseResume(slowDocument));
+
+        IOException quarantined = assertThrows(IOException.class, () -> parser.parseResume(slowDocument));
+        assertTrue(quarantined.getMessage().contains("quarantined"));
+        verify(delegate, times(2)).parseResume(eq(slowDocument), any(BooleanSupplier.class));
+
+        // Other documents are unaffected and the overrunning parses have released their workers
+        assertNotNull(parser.parseResume(document));
+        Map<String, Object> stats = parser.getStats();
+        assertEquals(2L, stats.get("timeouts"));
+        assertEquals(1L, stats.get("quarantined"));
+    }
+
+    @Test
+    void testClearQuarantine_AllowsRetry() throws IOException {
+        assertThrows(IOException.class, () -> parser.parseResume(slowDocument));
+        assertThrows(IOException.class, () -> parser.parseResume(slowDocument));
+
+        assertEquals(1, parser.clearQuarantine());
+        assertThrows(IOException.class, () -> parser.parseResume(slowDocument));
+        verify(delegate, times(3)).parseResume(eq(slowDocument), any(BooleanSupplier.class));
+    }
+
+    @Test
+    void testParseText_RunsUnderTheSameWatchdog() throws IOException {
+        when(delegate.parseText(eq("Java developer"), any(BooleanSupplier.class))).thenReturn(new ResumeDTO());
+        when(delegate.parseText(eq("endless"), any(BooleanSupplier.class))).thenAnswer(invocation -> {
+            BooleanSupplier cancelled = invocation.getArgument(1);
+            while (!cancelled.getAsBoolean()) {
+                Thread.onSpinWait();
+            }
+            throw new IOException("Parse cancelled");
+        });
+
+        assertNotNull(parser.parseText("Java developer"));
+        IOException timedOut = assertThrows(IOException.class, () -> parser.parseText("endless"));
+        assertTrue(timedOut.getMessage().contains("timed out"));
+        assertEquals(1L, parser.getStats().get("timeouts"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.entity.User;
+import com.resumeanalyzer.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LoginServiceTest {
+
+    private static User user(String hash) {
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("alice");
+        user.setPassword(hash);
+        return user;
+    }
+
+    @Test
+    void testVerifyPassword_UpgradesWeakerHashes() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.upgradePassword(any(), any(), any())).thenReturn(1);
+        LoginService loginService = new LoginService(new BCryptPasswordEncoder(5), userRepository, 1, 4, 5000);
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+        User user = user(weak);
+
+        assertFalse(loginService.verifyPassword(user, "wrong"));
+        verify(userRepository, never()).upgradePassword(any(), any(), any());
+
+        assertTrue(loginService.verifyPassword(user, "secret"));
+        assertTrue(user.getPassword().startsWith("$2a$05$"));
+        verify(userRepository, times(1)).upgradePassword(eq(7L), eq(weak), eq(user.getPassword()));
+
+        assertTrue(loginService.verifyPassword(user, "secret"));
+        verify(userRepository, times(1)).upgradePassword(any(), any(), any());
+        verify(userRepository, never()).save(any());
+        assertEquals(1L, loginService.getStats().get("hashUpgrades"));
+    }
+
+    @Test
+    void testVerifyPassword_SucceedsWhenUpgradeFails() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.upgradePassword(any(), any(), any()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        LoginService loginService = new LoginService(new BCryptPasswordEncoder(5), userRepository, 1, 4, 5000);
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+        User user = user(weak);
+
+        assertTrue(loginService.verifyPassword(user, "secret"));
+        assertEquals(weak, user.getPassword());
+        assertEquals(0L, loginService.getStats().get("hashUpgrades"));
+    }
+
+    @Test
+    void testVerifyPassword_RejectsWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        LoginService loginService = new LoginService(slow, mock(UserRepository.class), 1, 1, 5000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // One check running, one queued: the next is turned away at once
+            Future<Boolean> running = callers.submit(() -> loginService.verifyPassword(user("hash"), "secret"));
+            Future<Boolean> queued = callers.submit(() -> loginService.verifyPassword(user("hash"), "secret"));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!Integer.valueOf(1).equals(loginService.getStats().get("queued"))
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertThrows(RejectedExecutionException.class, () -> loginService.verifyPassword(user("hash"), "secret"));
+            assertTrue(loginService.retryAfterSeconds() >= 1);
+            assertEquals(1L, loginService.getStats().get("busyRejections"));
+
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            assertTrue(queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            loginService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.util.DocumentContent;
+import com.resumeanalyzer.util.ResumeTextCollector;
+import com.resumeanalyzer.util.SkillMatcher;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfTextExtractorTest {
+
+    private static final int PAGES = 30;
+    private static final int THREADS = 3;
+
+    private static final SkillMatcher SKILLS =
+            SkillMatcher.compile("test", SkillMatcher.parseDictionary(List.of("Java")));
+
+    private final CountingExtractor parallel = new CountingExtractor(true);
+    private final CountingExtractor sequential = new CountingExtractor(false);
+
+    // Counts how often the PDF bytes are parsed
+    private static class CountingExtractor extends PdfTextExtractor {
+        final AtomicInteger loads = new AtomicInteger();
+
+        CountingExtractor(boolean parallel) {
+            super(parallel, 4, 3, THREADS);
+        }
+
+        @Override
+        public PDDocument load(DocumentContent document) throws IOException {
+            loads.incrementAndGet();
+            return super.load(document);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallel.shutdown();
+        sequential.shutdown();
+    }
+
+    private static DocumentContent pdf() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 1; page <= PAGES; page++) {
+                PDPage pdfPage = new PDPage();
+                document.addPage(pdfPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdfPage)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Page " + page + " Java");
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            document.save(bytes);
+            return new DocumentContent(bytes.toByteArray(), "cv.pdf", "application/pdf");
+        }
+    }
+
+    // Runs the extractor the way DocumentTextExtractor does, keeping the text of a truncated parse
+    private static ResumeTextCollector extract(PdfTextExtractor extractor, DocumentContent document,
+                                               long maxChars, int maxPages) throws IOException {
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, maxChars, maxPages);
+        try {
+            extractor.extract(document, collector);
+        } catch (ResumeTextCollector.LimitReachedException e) {
+            assertTrue(collector.isTruncated());
+        }
+        return collector;
+    }
+
+    @Test
+    void testExtract_ParallelKeepsPageOrder() throws IOException {
+        DocumentContent document = pdf();
+        ResumeTextCollector collector = extract(parallel, document, 100_000, 50);
+
+        String text = collector.finishSections().getText();
+        int previous = -1;
+        for (int page = 1; page <= PAGES; page++) {
+            int at = text.indexOf("Page " + page + " Java");
+            assertTrue(at > previous, "page " + page + " out of order");
+            previous = at;
+        }
+        assertEquals(PAGES, collector.getPageCount());
+        assertFalse(collector.isTruncated());
+        assertEquals(List.of("Java"), collector.finishSkills());
+        assertEquals(extract(sequential, document, 100_000, 50).finishSections().getText(), text);
+        // One parse on the calling thread and at most one per worker
+        assertTrue(parallel.loads.get() <= THREADS + 1, "loads: " + parallel.loads.get());
+    }
+
+    @Test
+    void testExtract_ParallelStopsAtTheCharacterBudget() throws IOException {
+        DocumentContent document = pdf();
+        long full = extract(sequential, document, 100_000, 50).getCharCount();
+
+        for (long maxChars : new long[] {5, full / 3, full / 2 + 1, full - 1}) {
+            ResumeTextCollector expected = extract(sequential, document, maxChars, 50);
+            ResumeTextCollector actual = extract(parallel, document, maxChars, 50);
+
+            assertTrue(actual.isTruncated(), "maxChars " + maxChars);
+            assertEquals(maxChars, actual.getCharCount());
+            assertEquals(expected.finishSections().getText(), actual.finishSections().getText());
+            assertEquals(expected.getPageCount(), actual.getPageCount());
+        }
+    }
+
+    @Test
+    void testExtract_ParallelStopsAtThePageBudget() throws IOException {
+        DocumentContent document = pdf();
+        ResumeTextCollector collector = extract(parallel, document, 100_000, 20);
+
+        String text = collector.finishSections().getText();
+        assertEquals(20, collector.getPageCount());
+        assertTrue(text.contains("Page 20 Java"));
+        assertFalse(text.contains("Page 21 Java"));
+    }
+}
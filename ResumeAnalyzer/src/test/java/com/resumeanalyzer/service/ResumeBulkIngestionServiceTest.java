@@ -0,0 +1,207 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.DocumentContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeBulkIngestionServiceTest {
+
+    @Mock
+    private ResumeIngestionService ingestionService;
+
+    @Mock
+    private ResumeService resumeService;
+
+    private ResumeBulkIngestionService bulkService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        bulkService = new ResumeBulkIngestionService(ingestionService, resumeService, 2, 2, 10, 1024);
+
+        when(ingestionService.prepare(any(DocumentContent.class), eq("testuser"))).thenAnswer(invocation -> {
+            DocumentContent document = invocation.getArgument(0);
+            if (document.getFilename().startsWith("bad")) {
+                throw new IOException("Resume parsing failed");
+            }
+            ResumeDTO dto = new ResumeDTO();
+            dto.setName(document.getFilename());
+            return new PreparedResume(document.getFilename(), "testuser/" + document.getFilename(), dto, Map.of());
+        });
+        when(resumeService.saveParsedResumes(anyList(), eq("testuser"))).thenAnswer(invocation -> {
+            List<ResumeDTO> dtos = invocation.getArgument(0);
+            return dtos.stream().map(dto -> {
+                Resume resume = new Resume();
+                resume.setId((long) dto.getName().hashCode());
+                return resume;
+            }).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkService.shutdown();
+    }
+
+    @Test
+    void testIngestZip_ReportsEveryFileAndKeepsGoing() throws IOException {
+        byte[] archive = zip(Map.of(
+            "a.pdf", "resume a",
+            "folder/b.pdf", "resume b",
+            "bad.pdf", "broken",
+            "c.pdf", "resume c",
+            "empty.pdf", "",
+            "big.pdf", "x".repeat(2048)));
+
+        BulkIngestionResult result = bulkService.ingestZip(new ByteArrayInputStream(archive), "testuser");
+
+        assertEquals(6, result.getTotal());
+        assertEquals(3, result.getSaved());
+        assertEquals(3, result.getFailed());
+        assertFalse(result.isTruncated());
+        for (BulkIngestionResult.Item item : result.getItems()) {
+            boolean ok = List.of("a.pdf", "b.pdf", "c.pdf").contains(item.getFilename());
+            assertEquals(ok ? BulkIngestionResult.Status.SAVED : BulkIngestionResult.Status.FAILED, item.getStatus(),
+                item.getFilename());
+            assertEquals(ok, item.getResumeId() != null);
+        }
+        // Three parsed resumes in batches of two
+        verify(resumeService, times(2)).saveParsedResumes(anyList(), eq("testuser"));
+    }
+
+    @Test
+    void testIngestZip_StopsAtFileLimit() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 12; i++) {
+            entries.put("r" + i + ".pdf", "resume " + i);
+        }
+
+        BulkIngestionResult result = bulkService.ingestZip(new ByteArrayInputStream(zip(entries)), "testuser");
+
+        assertEquals(10, result.getTotal());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void testIngestZip_ReturnsPartialManifestWhenStreamBreaks() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("a.pdf", "resume a");
+        entries.put("b.pdf", "resume b");
+        entries.put("c.pdf", incompressible(1000));
+        entries.put("d.pdf", "resume d");
+        byte[] archive = zip(entries);
+        // The client goes away part way through c.pdf, past the inflater's 512-byte read-ahead
+        int cut = indexOf(archive, "d.pdf".getBytes()) - 100;
+
+        BulkIngestionResult result = bulkService.ingestZip(new BrokenInputStream(archive, cut), "testuser");
+
+        assertEquals(3, result.getTotal());
+        assertEquals(2, result.getSaved());
+        BulkIngestionResult.Item broken = result.getItems().get(2);
+        assertEquals("c.pdf", broken.getFilename());
+        assertEquals(BulkIngestionResult.Status.FAILED, broken.getStatus());
+        verify(ingestionService, times(2)).prepare(any(DocumentContent.class), eq("testuser"));
+        verify(ingestionService, never()).discard(any());
+    }
+
+    @Test
+    void testIngestFiles_StopsAtUnreadablePart() throws IOException {
+        MultipartFile unreadable = mock(MultipartFile.class);
+        when(unreadable.getOriginalFilename()).thenReturn("b.pdf");
+        when(unreadable.getInputStream()).thenThrow(new IOException("Connection reset"));
+
+        BulkIngestionResult result = bulkService.ingestFiles(List.of(
+            new MockMultipartFile("files", "a.pdf", "application/pdf", "resume a".getBytes()),
+            unreadable,
+            new MockMultipartFile("files", "c.pdf", "application/pdf", "resume c".getBytes())), "testuser");
+
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getSaved());
+        assertEquals(BulkIngestionResult.Status.FAILED, result.getItems().get(1).getStatus());
+    }
+
+    private static String incompressible(int length) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('!' + random.nextInt(90)));
+        }
+        return text.toString();
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    // Serves the first bytes of the body, then fails like a dropped connection
+    private static class BrokenInputStream extends InputStream {
+        private final byte[] bytes;
+        private final int failAt;
+        private int position;
+
+        BrokenInputStream(byte[] bytes, int failAt) {
+            this.bytes = bytes;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (position >= failAt) {
+                throw new IOException("Connection reset");
+            }
+            int count = Math.min(length, failAt - position);
+            System.arraycopy(bytes, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+
+    private static byte[] zip(Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+package com.resumeanalyzer.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.repository.ResumeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+class ResumeExportServiceTest {
+
+    private static final int RESUMES = 7;
+    private static final int CHUNK_SIZE = 3;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < RESUMES; i++) {
+            Resume resume = new Resume();
+            resume.setName("Candidate, \"" + i + "\"");
+            resume.setUsername(i % 2 == 0 ? "alice" : "bob");
+            resume.setSkills(List.of("Java", "SQL"));
+            resume.setEducation(List.of("University " + i));
+            resume.setProjects(List.of("Project " + i));
+            entityManager.persist(resume);
+            ids.add(resume.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testExport_ReadsEveryRowInKeysetChunks() throws IOException {
+        ResumeRepository repository = mock(ResumeRepository.class, delegatesTo(resumeRepository));
+        ResumeExportService exportService = new ResumeExportService(repository, entityManager, objectMapper, CHUNK_SIZE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(ResumeExportService.Format.NDJSON, null, null, null, out);
+
+        assertEquals(RESUMES, rows);
+        assertEquals(ids, exportedIds(out));
+        // 3 + 3 + 1 rows; the short last chunk ends the export without another query
+        verify(repository, times(3)).findExportChunk(isNull(), anyLong(), anyLong(), any());
+        verify(repository).findExportChunk(isNull(), eq(0L), eq(Long.MAX_VALUE), any());
+        verify(repository).findExportChunk(isNull(), eq(ids.get(2)), eq(Long.MAX_VALUE), any());
+        verify(repository).findExportChunk(isNull(), eq(ids.get(5)), eq(Long.MAX_VALUE), any());
+    }
+
+    @Test
+    void testExport_FiltersByOwnerAndIdRange() throws IOException {
+        ResumeExportService exportService = new ResumeExportService(resumeRepository, entityManager, objectMapper, CHUNK_SIZE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(ResumeExportService.Format.NDJSON, "alice", ids.get(2), ids.get(6), out);
+
+        // alice owns the even rows; the range is inclusive at both ends
+        assertEquals(3, rows);
+        assertEquals(List.of(ids.get(2), ids.get(4), ids.get(6)), exportedIds(out));
+
+        ByteArrayOutputStream none = new ByteArrayOutputStream();
+        assertEquals(0, exportService.export(ResumeExportService.Format.NDJSON, "carol", null, null, none));
+        assertEquals("", none.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testExport_QuotesCsvFields() throws IOException {
+        ResumeExportService exportService = new ResumeExportService(resumeRepository, entityManager, objectMapper, CHUNK_SIZE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ResumeExportService.Format.CSV, "bob", null, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(4, lines.length);
+        assertEquals("id,username,name,email,phone,skills,education,projects,summary", lines[0]);
+        assertEquals(ids.get(1) + ",bob,\"Candidate, \"\"1\"\"\",,,Java; SQL,University 1,Project 1,", lines[1]);
+    }
+
+    private List<Long> exportedIds(ByteArrayOutputStream out) throws IOException {
+        List<Long> exported = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            exported.add(row.get("id").asLong());
+        }
+        return exported;
+    }
+}
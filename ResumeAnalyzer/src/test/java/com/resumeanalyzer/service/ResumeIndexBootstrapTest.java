@@ -0,0 +1,155 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.repository.ResumeRepository;
+import com.resumeanalyzer.util.FullTextIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ResumeIndexBootstrapTest {
+
+    private ResumeRepository resumeRepository;
+    private ResumeSearchIndex searchIndex;
+    private ResumeIndexBootstrap bootstrap;
+
+    private static Resume resume(long id, String name) {
+        Resume resume = new Resume();
+        resume.setId(id);
+        resume.setName(name);
+        resume.setUsername("alice");
+        resume.setSkills(List.of("Java"));
+        return resume;
+    }
+
+    @BeforeEach
+    void setUp() {
+        resumeRepository = mock(ResumeRepository.class);
+        searchIndex = new ResumeSearchIndex();
+        bootstrap = new ResumeIndexBootstrap(resumeRepository, List.of(searchIndex),
+                mock(PlatformTransactionManager.class), false, 2);
+    }
+
+    private List<Long> search(String query) {
+        return searchIndex.search(query, null, 10).hits().stream().map(FullTextIndex.Hit::id).toList();
+    }
+
+    @Test
+    void testRebuild_KeepsServingOldDataUntilSwap() {
+        bootstrap.index(resume(1, "Stale Entry"));
+        when(resumeRepository.findExportChunk(isNull(), eq(0L), anyLong(), any())).thenAnswer(invocation -> {
+            // Mid-rebuild, queries still see the old index
+            assertEquals(List.of(1L), search("stale"));
+            return List.of(resume(2, "Ada Lovelace"), resume(3, "Grace Hopper"));
+        });
+        when(resumeRepository.findExportChunk(isNull(), eq(3L), anyLong(), any())).thenReturn(List.of());
+
+        assertEquals(2, bootstrap.rebuild());
+
+        assertTrue(search("stale").isEmpty());
+        assertEquals(List.of(2L), search("ada"));
+        assertEquals(List.of(3L), search("grace"));
+    }
+
+    @Test
+    void testRebuild_LiveChangesWinOverStaleChunkReads() {
+        // The chunk was read before a delete of 2 and an update of 3 committed
+        when(resumeRepository.findExportChunk(isNull(), eq(0L), anyLong(), any())).thenAnswer(invocation -> {
+            bootstrap.remove(2L);
+            bootstrap.index(resume(3, "Grace Brewster Hopper"));
+            return List.of(resume(2, "Ada Lovelace"), resume(3, "Grace Hopper"));
+        });
+        when(resumeRepository.findExportChunk(isNull(), eq(3L), anyLong(), any())).thenReturn(List.of());
+
+        bootstrap.rebuild();
+
+        assertTrue(search("ada").isEmpty());
+        assertEquals(List.of(3L), search("brewster"));
+
+        // Once the rebuild is over, live writes go straight to the swapped-in index
+        bootstrap.index(resume(4, "Alan Turing"));
+        assertEquals(List.of(4L), search("turing"));
+    }
+
+    @Test
+    void testRebuild_FailureLeavesOldDataInPlace() {
+        bootstrap.index(resume(1, "Ada Lovelace"));
+        when(resumeRepository.findExportChunk(isNull(), anyLong(), anyLong(), any()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> bootstrap.rebuild());
+        assertEquals(List.of(1L), search("ada"));
+    }
+
+    @Test
+    void testRebuild_KeepsSaveRacingWithPublish() throws Exception {
+        CountDownLatch liveWritten = new CountDownLatch(1);
+        CountDownLatch published = new CountDownLatch(1);
+        // Pauses a live save right after the live index took it, as a slow thread might
+        ResumeIndex pausing = new ResumeIndex() {
+            @Override
+            public void index(Resume resume) {
+                searchIndex.index(resume);
+                if (resume.getId() == 4L) {
+                    liveWritten.countDown();
+                    await(published);
+                }
+            }
+
+            @Override
+            public void remove(Long resumeId) {
+                searchIndex.remove(resumeId);
+            }
+
+            @Override
+            public void clear() {
+                searchIndex.clear();
+            }
+
+            @Override
+            public Rebuild startRebuild() {
+                return searchIndex.startRebuild();
+            }
+        };
+        bootstrap = new ResumeIndexBootstrap(resumeRepository, List.of(pausing),
+                mock(PlatformTransactionManager.class), false, 2);
+
+        when(resumeRepository.findExportChunk(isNull(), eq(0L), anyLong(), any()))
+                .thenReturn(List.of(resume(2, "Ada Lovelace")));
+        Thread saver = new Thread(() -> bootstrap.index(resume(4, "Alan Turing")));
+        when(resumeRepository.findExportChunk(isNull(), eq(2L), anyLong(), any())).thenAnswer(invocation -> {
+            // The resume is committed after the last chunk was read, before the copies are published
+            saver.start();
+            await(liveWritten);
+            return List.of();
+        });
+
+        Thread rebuilder = new Thread(bootstrap::rebuild);
+        rebuilder.start();
+        // The publish has to wait for the save; give it the chance to run ahead if it could
+        rebuilder.join(200);
+        published.countDown();
+        rebuilder.join(5000);
+        saver.join(5000);
+
+        assertEquals(List.of(2L), search("ada"));
+        assertEquals(List.of(4L), search("turing"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
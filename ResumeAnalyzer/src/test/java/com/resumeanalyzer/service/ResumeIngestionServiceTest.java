@@ -0,0 +1,185 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.dto.ResumeDTO;
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.DocumentContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ResumeIngestionServiceTest {
+
+    @Mock
+    private ResumeService resumeService;
+
+    @Mock
+    private ResumeParserService resumeParserService;
+
+    private ResumeIngestionService ingestionService;
+
+    private final DocumentContent document = new DocumentContent("Dummy Content".getBytes(), "resume.pdf", "application/pdf");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ingestionService = new ResumeIngestionService(resumeService, resumeParserService, 1, 10, 2, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ingestionService.shutdown();
+    }
+
+    @Test
+    void testIngest_Success() throws IOException {
+        Resume saved = new Resume();
+        saved.setId(42L);
+        when(resumeService.uploadDocument(document, "testuser")).thenReturn("testuser/key");
+        when(resumeParserService.parseResume(eq(document), any(BooleanSupplier.class))).thenReturn(new ResumeDTO());
+        when(resumeService.saveParsedResume(any(ResumeDTO.class), eq("testuser"))).thenReturn(saved);
+
+        IngestionResult result = ingestionService.ingest(document, "testuser");
+
+        assertEquals("testuser/key", result.getS3Key());
+        assertEquals(42L, result.getResume().getId());
+        assertTrue(result.getTimings().containsKey("storageMillis"));
+        assertTrue(result.getTimings().containsKey("parseMillis"));
+        verify(resumeService, never()).deleteDocument(any());
+    }
+
+    @Test
+    void testIngest_ParseFailureDeletesStoredObject() throws IOException {
+        when(resumeService.uploadDocument(document, "testuser")).thenReturn("testuser/key");
+        when(resumeParserService.parseResume(eq(document), any(BooleanSupplier.class)))
+            .thenThrow(new IOException("Resume parsing failed"));
+
+        assertThrows(IOException.class, () -> ingestionService.ingest(document, "testuser"));
+
+        verify(resumeService, timeout(1000)).deleteDocument("testuser/key");
+        verify(resumeService, never()).saveParsedResume(any(), any());
+    }
+
+    @Test
+    void testIngest_StorageFailureAbandonsParse() throws IOException {
+        when(resumeService.uploadDocument(document, "testuser")).thenThrow(new IOException("Failed to upload to S3"));
+        when(resumeParserService.parseResume(eq(document), any(BooleanSupplier.class))).thenAnswer(invocation -> {
+            BooleanSupplier cancelled = invocation.getArgument(1);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!cancelled.getAsBoolean()) {
+                if (System.currentTimeMillis() > deadline) {
+                    fail("Parse was not cancelled");
+                }
+                Thread.onSpinWait();
+            }
+            throw new IOException("Parse cancelled");
+        });
+
+        IOException e = assertThrows(IOException.class, () -> ingestionService.ingest(document, "testuser"));
+
+        assertEquals("Failed to upload to S3", e.getMessage());
+        verify(resumeService, never()).saveParsedResume(any(), any());
+        verify(resumeService, never()).deleteDocument(any());
+    }
+
+    private static void awaitFinished(IngestionJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!job.isFinished()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Job " + job.getJobId() + " did not finish");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testSubmit_JobIsSavedInTheBackground() throws Exception {
+        Resume saved = new Resume();
+        saved.setId(42L);
+        when(resumeService.uploadDocument(document, "testuser")).thenReturn("testuser/key");
+        when(resumeParserService.parseResume(eq(document), any(BooleanSupplier.class))).thenReturn(new ResumeDTO());
+        when(resumeService.saveParsedResume(any(ResumeDTO.class), eq("testuser"))).thenReturn(saved);
+
+        IngestionJob job = ingestionService.submit(document, "testuser");
+        awaitFinished(job);
+
+        assertEquals(IngestionJob.Status.COMPLETED, job.getStatus());
+        assertEquals(100, job.getProgress());
+        assertEquals(42L, job.getResumeId());
+        assertEquals("testuser/key", job.getS3Key());
+        assertSame(job, ingestionService.getJob(job.getJobId(), "testuser", false).orElseThrow());
+        assertEquals(1L, ingestionService.getStats().get("completed"));
+    }
+
+    @Test
+    void testSubmit_FailedJobReportsTheError() throws Exception {
+        when(resumeService.uploadDocument(document, "testuser")).thenReturn("testuser/key");
+        when(resumeParserService.parseResume(eq(document), any(BooleanSupplier.class)))
+            .thenThrow(new IOException("Resume parsing failed"));
+
+        IngestionJob job = ingestionService.submit(document, "testuser");
+        awaitFinished(job);
+
+        assertEquals(IngestionJob.Status.FAILED, job.getStatus());
+        assertEquals("Resume parsing failed", job.getError());
+        assertNull(job.getResumeId());
+        assertEquals(1L, ingestionService.getStats().get("failed"));
+    }
+
+    @Test
+    void testSubmit_RejectsWhenTheQueueIsFull() throws Exception {
+        ResumeIngestionService service = new ResumeIngestionService(resumeService, resumeParserService, 1, 1, 2, 60);
+        CountDownLatch release = new CountDownLatch(1);
+        when(resumeService.uploadDocument(document, "testuser")).thenReturn("testuser/key");
+        when(resumeParserService.parseResume(eq(document), any(BooleanSupplier.class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ResumeDTO();
+        });
+        when(resumeService.saveParsedResume(any(ResumeDTO.class), eq("testuser"))).thenReturn(new Resume());
+
+        try {
+            // One job on the only worker, one in the queue
+            IngestionJob running = service.submit(document, "testuser");
+            IngestionJob queued = service.submit(document, "testuser");
+
+            assertThrows(RejectedExecutionException.class, () -> service.submit(document, "testuser"));
+            assertEquals(1L, service.getStats().get("rejected"));
+            assertEquals(2, service.getStats().get("trackedJobs"));
+
+            release.countDown();
+            awaitFinished(running);
+            awaitFinished(queued);
+            assertEquals(IngestionJob.Status.COMPLETED, queued.getStatus());
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testGetJob_OnlyOwnerAndAdminsSeeTheJob() throws Exception {
+        when(resumeService.uploadDocument(document, "testuser")).thenReturn("testuser/key");
+        when(resumeParserService.parseResume(eq(document), any(BooleanSupplier.class))).thenReturn(new ResumeDTO());
+        when(resumeService.saveParsedResume(any(ResumeDTO.class), eq("testuser"))).thenReturn(new Resume());
+
+        IngestionJob job = ingestionService.submit(document, "testuser");
+
+        assertTrue(ingestionService.getJob(job.getJobId(), "testuser", false).isPresent());
+        assertTrue(ingestionService.getJob(job.getJobId(), "other", false).isEmpty());
+        assertTrue(ingestionService.getJob(job.getJobId(), "admin", true).isPresent());
+        assertTrue(ingestionService.getJob("unknown", "admin", true).isEmpty());
+        awaitFinished(job);
+    }
+}
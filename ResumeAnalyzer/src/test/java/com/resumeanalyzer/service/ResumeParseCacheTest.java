@@ -0,0 +1,114 @@
+package com.resumeanalyzer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.dto.ResumeDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeParseCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private static ResumeDTO resume(String name) {
+        ResumeDTO dto = new ResumeDTO();
+        dto.setName(name);
+        dto.setEmail(name.toLowerCase() + "@example.com");
+        dto.setSkills(List.of("Java", "Spring Boot"));
+        dto.setSummary("Backend developer");
+        dto.setTextSignature(new byte[] {1, 2, 3});
+        return dto;
+    }
+
+    @Test
+    void testGet_EvictsLeastRecentlyUsedAtSizeLimit() {
+        ResumeParseCache cache = new ResumeParseCache(2, "");
+        cache.get("a", "gen-1");
+        cache.put("a", "gen-1", resume("A"));
+        cache.put("b", "gen-1", resume("B"));
+
+        // Touching "a" makes "b" the eldest, so "c" pushes "b" out
+        assertTrue(cache.get("a", "gen-1").isPresent());
+        cache.put("c", "gen-1", resume("C"));
+
+        assertTrue(cache.get("a", "gen-1").isPresent());
+        assertTrue(cache.get("b", "gen-1").isEmpty());
+        assertTrue(cache.get("c", "gen-1").isPresent());
+        assertEquals(2, cache.getStats().get("size"));
+        assertEquals(1L, cache.getStats().get("evictions"));
+    }
+
+    @Test
+    void testGet_DropsEntriesWhenGenerationChanges() {
+        ResumeParseCache cache = new ResumeParseCache(10, "");
+        cache.get("a", "gen-1");
+        cache.put("a", "gen-1", resume("A"));
+        assertTrue(cache.get("a", "gen-1").isPresent());
+
+        // A reloaded skill dictionary yields a new generation
+        assertTrue(cache.get("a", "gen-2").isEmpty());
+        assertEquals(1L, cache.getStats().get("invalidations"));
+        assertEquals("gen-2", cache.getStats().get("generation"));
+
+        // Late writes for the old generation are ignored
+        cache.put("a", "gen-1", resume("A"));
+        assertTrue(cache.get("a", "gen-2").isEmpty());
+    }
+
+    @Test
+    void testGet_ReadsBackFromDiskTier() throws Exception {
+        ResumeParseCache writer = new ResumeParseCache(10, cacheDir.toString());
+        writer.get("hash", "gen-1");
+        writer.put("hash", "gen-1", resume("Alice"));
+        assertTrue(Files.exists(cacheDir.resolve("gen-1").resolve("hash.json")));
+
+        // A fresh cache (as after a restart) finds the entry on disk
+        ResumeParseCache reader = new ResumeParseCache(10, cacheDir.toString());
+        Optional<ResumeDTO> cached = reader.get("hash", "gen-1");
+        assertTrue(cached.isPresent());
+        assertEquals("Alice", cached.get().getName());
+        assertEquals(List.of("Java", "Spring Boot"), cached.get().getSkills());
+        assertArrayEquals(new byte[] {1, 2, 3}, cached.get().getTextSignature());
+        assertEquals(1L, reader.getStats().get("diskHits"));
+        // API responses still leave the signature out
+        assertFalse(new ObjectMapper().writeValueAsString(cached.get()).contains("textSignature"));
+
+        // Switching generation purges the old generation's directory
+        reader.get("hash", "gen-2");
+        assertFalse(Files.exists(cacheDir.resolve("gen-1")));
+    }
+
+    @Test
+    void testGetStats_CountsHitsAndMisses() {
+        ResumeParseCache cache = new ResumeParseCache(10, "");
+        cache.get("a", "gen-1");
+        cache.put("a", "gen-1", resume("A"));
+        cache.get("a", "gen-1");
+        cache.get("a", "gen-1");
+        cache.get("b", "gen-1");
+
+        Map<String, Object> stats = cache.getStats();
+        assertEquals(2L, stats.get("hits"));
+        assertEquals(2L, stats.get("misses"));
+        assertEquals(0.5, stats.get("hitRate"));
+        assertEquals(false, stats.get("diskTier"));
+    }
+
+    @Test
+    void testGet_ReturnsCopiesOfCachedResults() {
+        ResumeParseCache cache = new ResumeParseCache(10, "");
+        cache.get("a", "gen-1");
+        cache.put("a", "gen-1", resume("A"));
+
+        cache.get("a", "gen-1").get().setName("changed");
+        assertEquals("A", cache.get("a", "gen-1").get().getName());
+    }
+}
@@ -5,10 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.mock.web.MockMultipartFile;
 import com.resumeanalyzer.repository.ResumeRepository;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import java.io.IOException;
-import java.nio.file.Path;
+import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,7 +28,7 @@ class ResumeServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        resumeService = new ResumeService(s3Client, "test-bucket", resumeRepository);
+        resumeService = new ResumeService(s3Client, "test-bucket", resumeRepository, List.of(), mock(ResumeIndexBootstrap.class));
     }
 
     @Test
@@ -44,7 +45,7 @@ class ResumeServiceTest {
         String uploadedKey = resumeService.uploadFile(file, "testuser");
 
         // Assert
-        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(Path.class));
+        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
         assertNotNull(uploadedKey);
         assertTrue(uploadedKey.startsWith("testuser/"));
         assertTrue(uploadedKey.contains("resume.pdf"));
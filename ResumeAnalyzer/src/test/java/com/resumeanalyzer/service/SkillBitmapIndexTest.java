@@ -0,0 +1,75 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.model.Resume;
+import com.resumeanalyzer.util.SkillMatcher;
+import com.resumeanalyzer.util.SkillQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SkillBitmapIndexTest {
+
+    private SkillBitmapIndex index;
+
+    private static Resume resume(long id, String owner, String... skills) {
+        Resume resume = new Resume();
+        resume.setId(id);
+        resume.setUsername(owner);
+        resume.setSkills(List.of(skills));
+        return resume;
+    }
+
+    @BeforeEach
+    void setUp() {
+        SkillDictionaryService dictionary = mock(SkillDictionaryService.class);
+        when(dictionary.getMatcher()).thenReturn(SkillMatcher.compile("test", SkillMatcher.parseDictionary(List.of(
+            "Java",
+            "JavaScript: JS, ECMAScript",
+            "Kubernetes: k8s",
+            "PHP"))));
+        index = new SkillBitmapIndex(dictionary);
+
+        index.index(resume(1, "alice", "Java", "Kubernetes"));
+        index.index(resume(2, "alice", "JavaScript"));
+        index.index(resume(3, "bob", "Java", "kubernetes"));
+        index.index(resume(4, "bob", "PHP"));
+    }
+
+    private long[] query(String expression, String owner) {
+        return index.query(SkillQuery.parse(expression), owner).page(0, 100);
+    }
+
+    @Test
+    void testQuery_ScopesToOwnerIncludingNot() {
+        assertArrayEquals(new long[] {1, 3}, query("Java AND Kubernetes", null));
+        assertArrayEquals(new long[] {1}, query("Java AND Kubernetes", "alice"));
+        assertArrayEquals(new long[] {3}, query("Java AND Kubernetes", "bob"));
+
+        // NOT is taken within the owner's resumes, never over everyone's
+        assertArrayEquals(new long[] {2}, query("NOT Java", "alice"));
+        assertArrayEquals(new long[] {4}, query("NOT Java", "bob"));
+        assertArrayEquals(new long[] {}, query("Java", "carol"));
+    }
+
+    @Test
+    void testQuery_ResolvesAliasesThroughDictionary() {
+        assertArrayEquals(new long[] {1, 3}, query("k8s", null));
+        assertArrayEquals(new long[] {2}, query("JS OR ecmascript", "alice"));
+        assertArrayEquals(new long[] {1}, query("K8S AND java", "alice"));
+        // Unknown terms match nothing instead of failing
+        assertArrayEquals(new long[] {}, query("Rust", null));
+    }
+
+    @Test
+    void testRemove_DropsResumeFromEveryBitmap() {
+        index.remove(1L);
+
+        assertArrayEquals(new long[] {3}, query("k8s", null));
+        assertArrayEquals(new long[] {2}, query("NOT Java", "alice"));
+        assertEquals(3L, index.getStats().get("resumes"));
+    }
+}
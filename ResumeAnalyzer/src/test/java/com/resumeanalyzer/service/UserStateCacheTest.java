@@ -0,0 +1,81 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.entity.User;
+import com.resumeanalyzer.repository.UserRepository;
+import com.resumeanalyzer.util.JwtUtil;
+import com.resumeanalyzer.util.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserStateCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        User alice = new User();
+        alice.setUsername("alice");
+        alice.setRole("ROLE_USER");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+        cache = new UserStateCache(userRepository, 100, 60);
+    }
+
+    @Test
+    void testAccepts_ReadsDatabaseOncePerUser() {
+        Date issued = new Date();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cache.accepts("alice", List.of("ROLE_USER"), issued));
+        }
+        assertFalse(cache.accepts("alice", List.of("ROLE_ADMIN"), issued));
+        assertFalse(cache.accepts("ghost", List.of("ROLE_USER"), issued));
+        assertFalse(cache.accepts("ghost", List.of("ROLE_USER"), issued));
+
+        verify(userRepository, times(1)).findByUsername("alice");
+        verify(userRepository, times(1)).findByUsername("ghost");
+    }
+
+    @Test
+    void testRoleChangeAndDelete_RevokeEarlierTokens() {
+        Date before = new Date(System.currentTimeMillis() - 5000);
+        assertTrue(cache.accepts("alice", List.of("ROLE_USER"), before));
+
+        cache.roleChanged("alice", "ROLE_ADMIN");
+        assertFalse(cache.accepts("alice", List.of("ROLE_USER"), before));
+        assertFalse(cache.accepts("alice", List.of("ROLE_ADMIN"), before));
+        assertTrue(cache.accepts("alice", List.of("ROLE_ADMIN"), new Date()));
+
+        cache.userDeleted("alice");
+        assertFalse(cache.accepts("alice", List.of("ROLE_ADMIN"), new Date()));
+        verify(userRepository, times(1)).findByUsername("alice");
+    }
+
+    @Test
+    void testRoleChange_AcceptsReloginInTheSameSecond() {
+        JwtUtil jwtUtil = new JwtUtil("0123456789abcdef0123456789abcdef", 100);
+        cache.roleChanged("alice", "ROLE_ADMIN");
+
+        // Issued right after the change, almost always within the same iat second
+        VerifiedToken token = jwtUtil.verify(jwtUtil.generateToken(userDetails("ROLE_ADMIN")));
+        assertTrue(cache.accepts("alice", token.authorities(), token.issuedAt()));
+    }
+
+    private static UserDetails userDetails(String role) {
+        return org.springframework.security.core.userdetails.User.withUsername("alice")
+            .password("secret").authorities(role).build();
+    }
+}
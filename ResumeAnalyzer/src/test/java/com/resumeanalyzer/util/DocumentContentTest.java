@@ -0,0 +1,32 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentContentTest {
+
+    private final byte[] bytes = "Jane Doe\nSkills\nJava, Kubernetes\n".repeat(1000).getBytes();
+
+    @Test
+    void testRead_HashesWhileReading() throws IOException {
+        DocumentContent read = DocumentContent.read(new ByteArrayInputStream(bytes), bytes.length, "r.txt", "text/plain");
+
+        assertArrayEquals(bytes, read.getBytes());
+        assertEquals(new DocumentContent(bytes, "r.txt", "text/plain").getSha256(), read.getSha256());
+    }
+
+    @Test
+    void testRead_HandlesUnknownOrWrongSize() throws IOException {
+        String expected = new DocumentContent(bytes, null, null).getSha256();
+
+        for (long expectedSize : new long[] {-1, 10, bytes.length, bytes.length * 2L}) {
+            DocumentContent read = DocumentContent.read(new ByteArrayInputStream(bytes), expectedSize, null, null);
+            assertArrayEquals(bytes, read.getBytes());
+            assertEquals(expected, read.getSha256());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentFormatTest {
+
+    private static final String DOCX_TYPE = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final byte[] ZIP = {'P', 'K', 3, 4, 0, 0};
+
+    private static DocumentFormat detect(byte[] bytes, String filename, String contentType) {
+        return DocumentFormat.detect(new DocumentContent(bytes, filename, contentType));
+    }
+
+    @Test
+    void testDetect_PdfByMagicBytes() {
+        assertEquals(DocumentFormat.PDF, detect("%PDF-1.7\n".getBytes(), "cv.docx", DOCX_TYPE));
+        // Junk before the header is tolerated within the first kilobyte
+        assertEquals(DocumentFormat.PDF, detect((" ".repeat(100) + "%PDF-1.4").getBytes(), null, null));
+        assertEquals(DocumentFormat.OTHER, detect((" ".repeat(2000) + "%PDF-1.4").getBytes(), null, null));
+    }
+
+    @Test
+    void testDetect_DocxNeedsZipBytesAndADocxHint() {
+        assertEquals(DocumentFormat.DOCX, detect(ZIP, "CV.DOCX", null));
+        assertEquals(DocumentFormat.DOCX, detect(ZIP, "upload", DOCX_TYPE));
+        assertEquals(DocumentFormat.OTHER, detect(ZIP, "archive.zip", "application/zip"));
+        assertEquals(DocumentFormat.OTHER, detect("not a zip".getBytes(), "cv.docx", DOCX_TYPE));
+        assertEquals(DocumentFormat.OTHER, detect(new byte[0], null, null));
+    }
+}
@@ -0,0 +1,67 @@
+package com.resumeanalyzer.util;
+
+import com.resumeanalyzer.util.FullTextIndex.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullTextIndexTest {
+
+    private FullTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FullTextIndex();
+        index.put(1, Map.of(Field.NAME, List.of("Jane Doe"), Field.SKILLS, List.of("Java", "Kubernetes"),
+            Field.SUMMARY, List.of("Backend engineer building machine learning pipelines")));
+        index.put(2, Map.of(Field.NAME, List.of("John Roe"), Field.SKILLS, List.of("Python", "Machine"),
+            Field.PROJECTS, List.of("Learning platform for schools")));
+        index.put(3, Map.of(Field.NAME, List.of("Java Smith"), Field.SKILLS, List.of("C++", "C#")));
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, 10).hits().stream().map(FullTextIndex.Hit::id).toList();
+    }
+
+    @Test
+    void testTerms_AllClausesMustMatch() {
+        assertEquals(List.of(1L), ids("java kubernetes"));
+        assertEquals(List.of(3L), ids("c++"));
+        assertEquals(List.of(), ids("java python"));
+    }
+
+    @Test
+    void testRanking_NameOutweighsSkills() {
+        assertEquals(List.of(3L, 1L), ids("java"));
+    }
+
+    @Test
+    void testFilter_SkipsRejectedDocumentsBeforeCounting() {
+        FullTextIndex.Result result = index.search("java", 10, id -> id != 3);
+        assertEquals(List.of(1L), result.hits().stream().map(FullTextIndex.Hit::id).toList());
+        assertEquals(1, result.totalMatches());
+    }
+
+    @Test
+    void testPrefixAndPhrase() {
+        assertEquals(List.of(1L), ids("kube*"));
+        assertEquals(List.of(1L), ids("\"machine learning\""));
+        // Both words appear in resume 2, but not next to each other in one field
+        assertEquals(2, index.search("machine learning", 10).totalMatches());
+    }
+
+    @Test
+    void testUpdates_ReplaceAndRemove() {
+        index.put(3, Map.of(Field.NAME, List.of("Ada Smith"), Field.SKILLS, List.of("Rust")));
+        assertEquals(List.of(1L), ids("java"));
+        assertEquals(List.of(3L), ids("rust"));
+
+        assertTrue(index.remove(3));
+        assertEquals(List.of(), ids("smith"));
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdBitmapTest {
+
+    @Test
+    void testSetOperations_MatchReferenceAcrossContainerTypes() {
+        Random random = new Random(7);
+        // Dense and sparse ranges, so array and bitmap containers meet in every operation
+        IdBitmap a = new IdBitmap();
+        IdBitmap b = new IdBitmap();
+        TreeSet<Long> refA = new TreeSet<>();
+        TreeSet<Long> refB = new TreeSet<>();
+        for (int i = 0; i < 20000; i++) {
+            long dense = random.nextInt(10000);
+            long sparse = 65536L * (1 + random.nextInt(4)) + random.nextInt(65536);
+            a.add(dense);
+            refA.add(dense);
+            b.add(i % 2 == 0 ? dense : sparse);
+            refB.add(i % 2 == 0 ? dense : sparse);
+        }
+        for (int i = 0; i < 3000; i++) {
+            long id = random.nextInt(10000);
+            assertEquals(refA.remove(id), a.remove(id));
+        }
+
+        assertMatches(refA, a);
+        assertMatches(refB, b);
+        check(a, b, refA, refB, IdBitmap::and, (x, y) -> { x.retainAll(y); return x; });
+        check(a, b, refA, refB, IdBitmap::or, (x, y) -> { x.addAll(y); return x; });
+        check(a, b, refA, refB, IdBitmap::andNot, (x, y) -> { x.removeAll(y); return x; });
+        check(b, a, refB, refA, IdBitmap::andNot, (x, y) -> { x.removeAll(y); return x; });
+    }
+
+    @Test
+    void testPage_ResumesAfterGivenId() {
+        IdBitmap bitmap = new IdBitmap();
+        for (long id : new long[] {3, 70000, 5, 65535, 65536, 0xFFFFFFFFL}) {
+            bitmap.add(id);
+        }
+
+        assertArrayEquals(new long[] {3, 5, 65535}, bitmap.page(0, 3));
+        assertArrayEquals(new long[] {65536, 70000, 0xFFFFFFFFL}, bitmap.page(65535, 10));
+        assertArrayEquals(new long[0], bitmap.page(0xFFFFFFFFL, 10));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    private static void check(IdBitmap a, IdBitmap b, TreeSet<Long> refA, TreeSet<Long> refB,
+                              BiFunction<IdBitmap, IdBitmap, IdBitmap> operation,
+                              BiFunction<TreeSet<Long>, TreeSet<Long>, TreeSet<Long>> reference) {
+        assertMatches(reference.apply(new TreeSet<>(refA), refB), operation.apply(a, b));
+    }
+
+    private static void assertMatches(TreeSet<Long> expected, IdBitmap actual) {
+        assertEquals(expected.size(), actual.cardinality());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(),
+            actual.page(-1, expected.size() + 1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.resumeanalyzer.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-that-is-long-enough-for-hs256";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 100);
+
+    @Test
+    void testVerify_ParsesOnceThenServesFromCache() {
+        String token = jwtUtil.generateToken(new User("alice", "", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        VerifiedToken verified = jwtUtil.verify(token);
+        assertEquals("alice", verified.username());
+        assertEquals(List.of("ROLE_USER"), verified.authorities());
+        assertNotNull(verified.issuedAt());
+        assertSame(verified, jwtUtil.verify(token));
+        assertEquals("alice", jwtUtil.extractUsername(token));
+        assertEquals(List.of("ROLE_USER"), jwtUtil.extractAuthorities(token));
+
+        Map<String, Object> stats = jwtUtil.getCacheStats();
+        assertEquals(1L, stats.get("misses"));
+        assertEquals(3L, stats.get("hits"));
+    }
+
+    @Test
+    void testVerify_RejectsForgedAndExpiredTokens() {
+        String forged = new JwtUtil("another-secret-that-is-long-enough-for-hs256", 100)
+            .createToken(Map.of(), "mallory");
+        assertThrows(JwtException.class, () -> jwtUtil.verify(forged));
+
+        String expired = Jwts.builder()
+            .setSubject("alice")
+            .setIssuedAt(new Date(System.currentTimeMillis() - 60_000))
+            .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+            .compact();
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(expired));
+        assertEquals(0, jwtUtil.getCacheStats().get("size"));
+    }
+
+    @Test
+    void testVerify_EvictsLeastRecentlyUsedWhenFull() {
+        JwtUtil small = new JwtUtil(SECRET, 2);
+        String a = small.createToken(Map.of(), "a");
+        String b = small.createToken(Map.of(), "b");
+        String c = small.createToken(Map.of(), "c");
+
+        VerifiedToken first = small.verify(a);
+        small.verify(b);
+        // Touching "a" makes "b" the eldest, so "c" pushes "b" out
+        small.verify(a);
+        small.verify(c);
+
+        assertSame(first, small.verify(a));
+        small.verify(b);
+        Map<String, Object> stats = small.getCacheStats();
+        assertEquals(2, stats.get("size"));
+        assertEquals(4L, stats.get("misses"));
+        assertEquals(2L, stats.get("evictions"));
+    }
+}
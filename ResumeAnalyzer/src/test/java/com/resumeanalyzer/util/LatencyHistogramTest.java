@@ -0,0 +1,28 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentiles_WithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500, histogram.percentileMillis(0.50), 500 * 0.07);
+        assertEquals(990, histogram.percentileMillis(0.99), 990 * 0.07);
+        assertEquals(1000, histogram.percentileMillis(1.0), 0.001);
+    }
+
+    @Test
+    void testPercentiles_EmptyHistogram() {
+        assertEquals(0, new LatencyHistogram().percentileMillis(0.99));
+    }
+}
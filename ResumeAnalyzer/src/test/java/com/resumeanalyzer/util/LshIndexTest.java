@@ -0,0 +1,62 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LshIndexTest {
+
+    private static String text(Random random, int words) {
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < words; i++) {
+            out.add("w" + random.nextInt(5000));
+        }
+        return String.join(" ", out);
+    }
+
+    // Changes a couple of words, like a re-upload with small edits
+    private static String edit(String text) {
+        String[] words = text.split(" ");
+        words[10] = "changed";
+        words[words.length - 5] = "edited";
+        return String.join(" ", words);
+    }
+
+    @Test
+    void testSignatures_EstimateSimilarityAndSurviveBytes() {
+        Random random = new Random(3);
+        String original = text(random, 400);
+        int[] signature = MinHash.signature(original);
+
+        assertTrue(MinHash.similarity(signature, MinHash.signature(edit(original))) > 0.9);
+        assertTrue(MinHash.similarity(signature, MinHash.signature(text(random, 400))) < 0.1);
+        assertArrayEquals(signature, MinHash.fromBytes(MinHash.toBytes(signature)));
+        assertNull(MinHash.signature("  --  "));
+    }
+
+    @Test
+    void testSimilarAndClusters_GroupOnlyNearDuplicates() {
+        Random random = new Random(5);
+        LshIndex index = new LshIndex(0.8);
+        String a = text(random, 300);
+        String b = text(random, 300);
+        index.put(1, MinHash.signature(a));
+        index.put(2, MinHash.signature(b));
+        index.put(3, MinHash.signature(edit(a)));
+        index.put(4, MinHash.signature(text(random, 300)));
+        index.put(5, MinHash.signature(edit(b)));
+        index.put(6, MinHash.signature(a));
+
+        List<LshIndex.Similar> similar = index.similar(MinHash.signature(edit(a)));
+        assertEquals(List.of(3L, 1L, 6L), similar.stream().map(LshIndex.Similar::id).toList());
+        assertEquals(List.of(List.of(1L, 3L, 6L), List.of(2L, 5L)), index.clusters());
+
+        index.remove(3);
+        index.remove(5);
+        assertEquals(List.of(List.of(1L, 6L)), index.clusters());
+    }
+}
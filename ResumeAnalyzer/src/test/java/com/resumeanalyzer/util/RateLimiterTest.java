@@ -0,0 +1,110 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testAcquire_AdmitsBurstThenOnePerInterval() {
+        RateLimiter limiter = new RateLimiter(600 * SECOND, 0);
+        RateLimiter.Limit limit = RateLimiter.Limit.perMinute(60, 3);
+
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            RateLimiter.Decision decision = limiter.acquire("alice /api/resume/upload", limit, 0);
+            assertTrue(decision.allowed());
+            assertEquals(3, decision.limit());
+            assertEquals(remaining, decision.remaining());
+        }
+
+        RateLimiter.Decision rejected = limiter.acquire("alice /api/resume/upload", limit, 0);
+        assertFalse(rejected.allowed());
+        assertEquals(0, rejected.remaining());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+        assertEquals(3 * SECOND, rejected.resetNanos());
+
+        // Other endpoints and other users have their own buckets
+        assertTrue(limiter.acquire("alice /api/resume/parse", limit, 0).allowed());
+        assertTrue(limiter.acquire("bob /api/resume/upload", limit, 0).allowed());
+
+        RateLimiter.Decision refilled = limiter.acquire("alice /api/resume/upload", limit, SECOND);
+        assertTrue(refilled.allowed());
+        assertEquals(0, refilled.remaining());
+        assertFalse(limiter.acquire("alice /api/resume/upload", limit, SECOND).allowed());
+    }
+
+    @Test
+    void testAcquire_ChargesBatchesPerPermit() {
+        RateLimiter limiter = new RateLimiter(600 * SECOND, 0);
+        RateLimiter.Limit limit = RateLimiter.Limit.perMinute(60, 3);
+
+        // Admitted while the bucket has room, then paid back one interval per permit
+        RateLimiter.Decision batch = limiter.acquire("alice /api/resume/bulk", limit, 5, 0);
+        assertTrue(batch.allowed());
+        assertEquals(0, batch.remaining());
+        assertEquals(5 * SECOND, batch.resetNanos());
+
+        RateLimiter.Decision rejected = limiter.acquire("alice /api/resume/bulk", limit, 1, 2 * SECOND);
+        assertFalse(rejected.allowed());
+        assertEquals(SECOND, rejected.retryAfterNanos());
+        assertTrue(limiter.acquire("alice /api/resume/bulk", limit, 1, 3 * SECOND).allowed());
+    }
+
+    @Test
+    void testAcquire_SweepsIdleBuckets() {
+        RateLimiter limiter = new RateLimiter(10 * SECOND, 0);
+        RateLimiter.Limit limit = RateLimiter.Limit.perMinute(60, 3);
+
+        limiter.acquire("alice /api/resume/upload", limit, 0);
+        limiter.acquire("bob /api/resume/upload", limit, 0);
+        assertEquals(2, limiter.size());
+
+        limiter.acquire("bob /api/resume/upload", limit, 15 * SECOND);
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void testAcquire_NeverOverAdmitsUnderContention() throws Exception {
+        RateLimiter limiter = new RateLimiter(600 * SECOND, 0);
+        RateLimiter.Limit limit = RateLimiter.Limit.perMinute(60, 50);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(callers.submit(() -> {
+                    int admitted = 0;
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.acquire("alice /api/resume/parse", limit, 0).allowed()) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(50, total);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLimit_RejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.Limit.perMinute(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.Limit.perMinute(10, 0));
+    }
+}
@@ -0,0 +1,150 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeTextCollectorTest {
+
+    private static final String XHTML = "http://www.w3.org/1999/xhtml";
+
+    private static final SkillMatcher SKILLS =
+            SkillMatcher.compile("test", SkillMatcher.parseDictionary(List.of("Java", "Kafka")));
+
+    // Opens the document the way Tika's XHTML output does, up to the body
+    private static void startBody(ContentHandler handler) throws SAXException {
+        handler.startDocument();
+        handler.startElement(XHTML, "html", "html", new AttributesImpl());
+        handler.startElement(XHTML, "body", "body", new AttributesImpl());
+    }
+
+    private static void page(ContentHandler handler, String text) throws SAXException {
+        AttributesImpl atts = new AttributesImpl();
+        atts.addAttribute("", "class", "class", "CDATA", "page");
+        handler.startElement(XHTML, "div", "div", atts);
+        characters(handler, text);
+        handler.endElement(XHTML, "div", "div");
+    }
+
+    private static void characters(ContentHandler handler, String text) throws SAXException {
+        handler.characters(text.toCharArray(), 0, text.length());
+    }
+
+    @Test
+    void testWriter_KeepsTextUpToTheCharacterBudget() throws IOException {
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, 12, 10);
+        Writer writer = collector.asWriter();
+
+        writer.write("Java, ");
+        assertThrows(ResumeTextCollector.LimitReachedException.class, () -> writer.write("Kafka, Spark"));
+
+        assertTrue(collector.isTruncated());
+        assertEquals(12, collector.getCharCount());
+        assertEquals("Java, Kafka,", collector.finishSections().getText());
+        assertEquals(List.of("Java", "Kafka"), collector.finishSkills());
+        // Nothing more is accepted once the budget is spent
+        assertThrows(ResumeTextCollector.LimitReachedException.class, () -> writer.write("x"));
+    }
+
+    @Test
+    void testWriter_TextThatFitsExactlyIsNotTruncated() throws IOException {
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, 4, 10);
+        collector.asWriter().write("Java");
+
+        assertFalse(collector.isTruncated());
+        assertEquals(4, collector.getCharCount());
+    }
+
+    @Test
+    void testStartPage_StopsAtThePageBudget() {
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, 1000, 2);
+        collector.startPage();
+        collector.append("one");
+        collector.startPage();
+        collector.append("two");
+
+        assertThrows(ResumeTextCollector.LimitReachedException.class, collector::startPage);
+        assertTrue(collector.isTruncated());
+        assertEquals(2, collector.getPageCount());
+        assertEquals("onetwo", collector.finishSections().getText());
+    }
+
+    @Test
+    void testContentHandler_CountsPagesAndCollectsBodyText() throws SAXException {
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, 1000, 10);
+        ContentHandler handler = collector.asContentHandler();
+
+        startBody(handler);
+        page(handler, "Java\n");
+        page(handler, "Kafka\n");
+        handler.endElement(XHTML, "body", "body");
+        handler.endElement(XHTML, "html", "html");
+        handler.endDocument();
+
+        assertEquals(2, collector.getPageCount());
+        assertFalse(collector.isTruncated());
+        assertEquals("Java\nKafka", collector.finishSections().getText().trim());
+        assertEquals(List.of("Java", "Kafka"), collector.finishSkills());
+    }
+
+    @Test
+    void testContentHandler_AbortsAtTheCharacterBudget() throws SAXException {
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, 8, 10);
+        ContentHandler handler = collector.asContentHandler();
+        startBody(handler);
+
+        SAXException e = assertThrows(SAXException.class, () -> page(handler, "Java and Kafka"));
+
+        assertInstanceOf(ResumeTextCollector.LimitReachedException.class, e.getCause());
+        assertTrue(collector.isTruncated());
+        assertEquals(8, collector.getCharCount());
+        assertEquals("Java and", collector.finishSections().getText());
+    }
+
+    @Test
+    void testContentHandler_AbortsAtThePageBudget() throws SAXException {
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, 1000, 1);
+        ContentHandler handler = collector.asContentHandler();
+        startBody(handler);
+        page(handler, "Java");
+
+        SAXException e = assertThrows(SAXException.class, () -> page(handler, "Kafka"));
+
+        assertInstanceOf(ResumeTextCollector.LimitReachedException.class, e.getCause());
+        assertTrue(collector.isTruncated());
+        assertEquals(1, collector.getPageCount());
+        assertEquals("Java", collector.finishSections().getText());
+    }
+
+    @Test
+    void testCancel_StopsBothSinks() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ResumeTextCollector collector = new ResumeTextCollector(SKILLS, 1000, 10, cancelled::get);
+        Writer writer = collector.asWriter();
+        ContentHandler handler = collector.asContentHandler();
+        startBody(handler);
+        writer.write("Java ");
+
+        cancelled.set(true);
+
+        assertThrows(ResumeTextCollector.CancelledException.class, () -> writer.write("Kafka"));
+        assertThrows(ResumeTextCollector.CancelledException.class, collector::startPage);
+        assertThrows(ResumeTextCollector.CancelledException.class, collector::checkCancelled);
+        SAXException e = assertThrows(SAXException.class, () -> characters(handler, "Kafka"));
+        assertInstanceOf(ResumeTextCollector.CancelledException.class, e.getCause());
+        SAXException onPage = assertThrows(SAXException.class, () -> page(handler, "Kafka"));
+        assertInstanceOf(ResumeTextCollector.CancelledException.class, onPage.getCause());
+        // Cancelling is not a budget cut
+        assertFalse(collector.isTruncated());
+        assertEquals(5, collector.getCharCount());
+        assertEquals(0, collector.getPageCount());
+    }
+}
@@ -0,0 +1,123 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SectionSegmenterTest {
+
+    private static final String RESUME = String.join("\n",
+            "Jane Doe",
+            "jane.doe@example.com",
+            "",
+            "Professional Summary",
+            "Backend engineer with a focus on Java.",
+            "",
+            "Education:",
+            "Bachelor of Science, State University",
+            "",
+            "Technical Skills",
+            "Java, Kafka",
+            "Projects",
+            "Resume Analyzer",
+            "Parses uploaded resumes");
+
+    @Test
+    void testSegment_SplitsOnHeadings() {
+        SegmentedResume resume = SectionSegmenter.segment(RESUME);
+
+        List<ResumeSection.Type> types = resume.getSections().stream().map(ResumeSection::getType).toList();
+        assertEquals(List.of(
+                ResumeSection.Type.HEADER,
+                ResumeSection.Type.SUMMARY,
+                ResumeSection.Type.EDUCATION,
+                ResumeSection.Type.SKILLS,
+                ResumeSection.Type.PROJECTS), types);
+
+        assertEquals("Backend engineer with a focus on Java.",
+                resume.first(ResumeSection.Type.SUMMARY).orElseThrow().getBody().trim());
+        assertEquals(List.of("Resume Analyzer", "Parses uploaded resumes"),
+                resume.first(ResumeSection.Type.PROJECTS).orElseThrow().lines());
+        assertEquals(RESUME, resume.getText());
+    }
+
+    @Test
+    void testSegment_IgnoresSentencesContainingKeywords() {
+        SegmentedResume resume = SectionSegmenter.segment(
+                "John Smith\nExperienced developer with strong skills in Java.\n");
+
+        assertEquals(1, resume.getSections().size());
+        assertEquals(ResumeSection.Type.HEADER, resume.getSections().get(0).getType());
+    }
+
+    @Test
+    void testSegment_KeepsContentLinesWithKeywordsInTheirSection() {
+        SegmentedResume resume = SectionSegmenter.segment(String.join("\n",
+                "Jane Doe",
+                "Work Authorization",
+                "Experience",
+                "Project Manager",
+                "Led the payments team",
+                "Education",
+                "Bachelor of Science Degree",
+                "Master of Science, State University",
+                "Skills",
+                "Communication Skills",
+                "Java"));
+
+        assertEquals(List.of(
+                ResumeSection.Type.HEADER,
+                ResumeSection.Type.EXPERIENCE,
+                ResumeSection.Type.EDUCATION,
+                ResumeSection.Type.SKILLS),
+                resume.getSections().stream().map(ResumeSection::getType).toList());
+        assertEquals(List.of("Jane Doe", "Work Authorization"), resume.lines(ResumeSection.Type.HEADER));
+        assertEquals(List.of("Project Manager", "Led the payments team"), resume.lines(ResumeSection.Type.EXPERIENCE));
+        assertEquals(List.of("Bachelor of Science Degree", "Master of Science, State University"),
+                resume.lines(ResumeSection.Type.EDUCATION));
+        assertEquals(List.of("Communication Skills", "Java"), resume.lines(ResumeSection.Type.SKILLS));
+    }
+
+    @Test
+    void testSegment_PartialHeadingsNeedCapitalsOrColon() {
+        SegmentedResume resume = SectionSegmenter.segment(String.join("\n",
+                "Jane Doe",
+                "RESEARCH PROJECTS",
+                "Compiler",
+                "Teaching Experience:",
+                "Tutor",
+                "Education",
+                "BSc Physics",
+                "Certifications",
+                "AWS Solutions Architect"));
+
+        assertEquals(List.of(
+                ResumeSection.Type.HEADER,
+                ResumeSection.Type.PROJECTS,
+                ResumeSection.Type.EXPERIENCE,
+                ResumeSection.Type.EDUCATION,
+                ResumeSection.Type.EDUCATION),
+                resume.getSections().stream().map(ResumeSection::getType).toList());
+        // Sections of the same type read as one
+        assertEquals(List.of("BSc Physics", "AWS Solutions Architect"), resume.lines(ResumeSection.Type.EDUCATION));
+    }
+
+    @Test
+    void testAppend_ChunkedInputMatchesWholeText() {
+        SectionSegmenter segmenter = new SectionSegmenter();
+        char[] chars = RESUME.toCharArray();
+        for (int i = 0; i < chars.length; i += 7) {
+            segmenter.append(chars, i, Math.min(7, chars.length - i));
+        }
+
+        SegmentedResume chunked = segmenter.finish();
+        SegmentedResume whole = SectionSegmenter.segment(RESUME);
+
+        assertEquals(whole.getSections().size(), chunked.getSections().size());
+        for (int i = 0; i < whole.getSections().size(); i++) {
+            assertEquals(whole.getSections().get(i).getBody(), chunked.getSections().get(i).getBody());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillMatcherTest {
+
+    private final SkillMatcher matcher = SkillMatcher.compile("test", SkillMatcher.parseDictionary(List.of(
+            "# comment",
+            "Java",
+            "JavaScript: JS, ECMAScript",
+            "Kubernetes: k8s",
+            "Spring Boot",
+            "C++",
+            "C#: C Sharp",
+            "Git")));
+
+    @Test
+    void testMatch_ResolvesAliasesToCanonicalNames() {
+        List<String> skills = matcher.match("Deployed JS services on K8S with spring   boot");
+
+        assertEquals(List.of("JavaScript", "Kubernetes", "Spring Boot"), skills);
+    }
+
+    @Test
+    void testMatch_RequiresWordBoundaries() {
+        assertEquals(List.of("JavaScript"), matcher.match("JavaScript and GitHub"));
+        assertEquals(List.of("C++", "Java", "C#"), matcher.match("C++, Java, C#"));
+        assertTrue(matcher.match("Javanese digits").isEmpty());
+    }
+
+    @Test
+    void testMatch_ReportsEachSkillOnce() {
+        assertEquals(List.of("Java"), matcher.match("Java java JAVA"));
+    }
+
+    @Test
+    void testScan_ChunkedInputMatchesWholeText() {
+        String text = "Kubernetes and k8s, plus Spring Boot and ECMAScript";
+        SkillMatcher.Scan scan = matcher.newScan();
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i += 3) {
+            scan.append(chars, i, Math.min(3, chars.length - i));
+        }
+
+        assertEquals(matcher.match(text), scan.finish());
+    }
+}
@@ -0,0 +1,49 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillQueryTest {
+
+    private static final Map<String, IdBitmap> SKILLS = Map.of(
+        "Java", bitmap(1, 2, 3, 4),
+        "Kafka", bitmap(2, 3, 5),
+        "PHP", bitmap(3, 6),
+        "Spring Boot", bitmap(1, 2));
+    private static final IdBitmap ALL = bitmap(1, 2, 3, 4, 5, 6);
+
+    private static IdBitmap bitmap(long... ids) {
+        IdBitmap bitmap = new IdBitmap();
+        for (long id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    private static long[] run(String expression) {
+        return SkillQuery.parse(expression)
+            .evaluate(skill -> SKILLS.getOrDefault(skill, new IdBitmap()), ALL)
+            .page(0, 100);
+    }
+
+    @Test
+    void testOperators_PrecedenceAndMultiWordSkills() {
+        assertArrayEquals(new long[] {2}, run("Java AND Kafka AND NOT PHP"));
+        assertArrayEquals(new long[] {2, 3, 5}, run("Kafka OR PHP AND Java"));
+        assertArrayEquals(new long[] {2, 5, 6}, run("(Kafka || PHP) && !Java OR Spring Boot AND Kafka"));
+        assertArrayEquals(new long[] {1, 2, 3, 4, 5}, run("\"Java\" OR Kafka AND NOT (PHP OR Spring Boot)"));
+        assertEquals(List.of("Java", "Spring Boot"), SkillQuery.parse("Java AND Spring Boot").getSkills());
+    }
+
+    @Test
+    void testParse_RejectsMalformedQueries() {
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("Java AND"));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("(Java OR Kafka"));
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse("Java ) Kafka"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.resumeanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private static List<Long> ids(List<TrigramIndex.Match> matches) {
+        return matches.stream().map(TrigramIndex.Match::id).toList();
+    }
+
+    private static List<TrigramIndex.Match> search(TrigramIndex index, String query, int limit, LongPredicate filter) {
+        return index.search(query, 0.3, limit, filter).matches();
+    }
+
+    @Test
+    void testSearch_FindsMisspelledNamesAndEmailsClosestFirst() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, List.of("John Smith", "john.smith@example.com", "john.smith"));
+        index.put(2, List.of("Jane Smithers", "jane@example.com", "jane"));
+        index.put(3, List.of("Priya Raman", "priya.raman@example.com", "priya.raman"));
+        index.put(4, List.of("Jon Smyth", "jsmyth@example.com", "jsmyth"));
+
+        List<TrigramIndex.Match> matches = search(index, "Jonh Smtih", 10, id -> true);
+        assertEquals(1L, matches.get(0).id());
+        assertEquals("john smith", matches.get(0).value());
+        assertEquals(2, matches.get(0).distance());
+        assertFalse(ids(matches).contains(3L));
+
+        // Every email shares "example com", but the closest one still comes first
+        assertEquals(3L, search(index, "priya.ramen@example.com", 10, id -> true).get(0).id());
+        // A single word matches the closest word of a longer name
+        assertEquals(1L, search(index, "Smtih", 10, id -> true).get(0).id());
+        assertTrue(search(index, "-- !!", 10, id -> true).isEmpty());
+    }
+
+    @Test
+    void testSearch_RespectsLimitFilterAndRemovals() {
+        TrigramIndex index = new TrigramIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.put(id, List.of("Candidate Number " + id));
+        }
+        index.put(100, List.of("Candidate Number"));
+
+        List<TrigramIndex.Match> top = search(index, "Candidat Numbr", 5, id -> true);
+        // Same edit distance everywhere: the value without extra words wins, the rest follow in id order
+        assertEquals(List.of(100L, 1L, 2L, 3L, 4L), ids(top));
+        assertTrue(top.stream().allMatch(match -> match.distance() == 2));
+
+        assertTrue(ids(search(index, "Candidate Number", 100, id -> id % 2 == 0)).stream()
+            .allMatch(id -> id % 2 == 0));
+
+        index.remove(100);
+        index.put(7, List.of());
+        assertFalse(ids(search(index, "Candidate Number", 100, id -> true)).contains(100L));
+        assertFalse(ids(search(index, "Candidate Number", 100, id -> true)).contains(7L));
+        assertEquals(49, index.size());
+    }
+
+    @Test
+    void testSearch_KeepsThresholdWhenCommonTrigramsExceedTheBound() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, List.of("John Smith"));
+        index.put(2, List.of("Jane Doe"));
+        // Over 16k postings on "  j", " jo", "  s" and " sm", owned by other users
+        for (long id = 10; id < 20_010; id++) {
+            index.put(id, List.of("Jo" + word(id) + " Sm" + word(id)));
+        }
+        LongPredicate own = id -> id < 10;
+
+        // Owner-scoped, the other users' postings don't use up the bound
+        TrigramIndex.Result scoped = index.search("Jonh Smtih", 0.3, 5, own);
+        assertEquals(List.of(1L), ids(scoped.matches()));
+        assertFalse(scoped.truncated());
+
+        // Unscoped, the bound is hit and reported rather than silently matching less
+        TrigramIndex.Result everyone = index.search("Jonh Smtih", 0.3, 5, id -> true);
+        assertTrue(everyone.truncated());
+    }
+
+    // A distinct letters-only suffix per id
+    private static String word(long id) {
+        StringBuilder word = new StringBuilder();
+        for (long n = id; n > 0; n /= 26) {
+            word.append((char) ('a' + n % 26));
+        }
+        return word.toString();
+    }
+}